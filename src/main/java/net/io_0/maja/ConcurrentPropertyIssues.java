@@ -0,0 +1,168 @@
+package net.io_0.maja;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.nullsFirst;
+
+/**
+ * Collects issues from many threads, e.g. when sub documents are mapped in parallel, pass it as issue consumer.
+ * Each thread adds to its own stripe, so threads rarely wait on each other. Stripes are merged on read.
+ * The merged issues are ordered by property path, numeric path segments by their number, e.g. "pojos.2" before "pojos.10",
+ * then by code, then by the order they were collected in. Messages are never compared, so lazily rendered ones stay unrendered.
+ */
+public class ConcurrentPropertyIssues implements Consumer<PropertyIssue> {
+  static final int STRIPES = 16;
+  static final Comparator<PropertyIssue> BY_PATH = comparing(PropertyIssue::getPropertyName, nullsFirst(ConcurrentPropertyIssues::comparePaths))
+    .thenComparing(propertyIssue -> propertyIssue.getIssue().getCode(), nullsFirst(Comparator.<String>naturalOrder()));
+
+  private static final Comparator<Collected> BY_PATH_AND_SEQUENCE = Comparator.<Collected, PropertyIssue>comparing(collected -> collected.propertyIssue, BY_PATH)
+    .thenComparingLong(collected -> collected.sequence);
+
+  private final Stripe[] stripes = new Stripe[STRIPES];
+  private final AtomicLong sequence = new AtomicLong();
+
+  private ConcurrentPropertyIssues() {
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  public static ConcurrentPropertyIssues of() {
+    return new ConcurrentPropertyIssues();
+  }
+
+  @Override
+  public void accept(PropertyIssue propertyIssue) {
+    Stripe stripe = stripes[(int) (Thread.currentThread().threadId() & (STRIPES - 1))];
+    stripe.lock.lock();
+    try {
+      stripe.collected.add(new Collected(sequence.getAndIncrement(), propertyIssue));
+    } finally {
+      stripe.lock.unlock();
+    }
+  }
+
+  /**
+   * @param prefix to put in front of each property name, e.g. "pojos.3."
+   * @return consumer adding to this collector, e.g. for a sub document
+   */
+  public Consumer<PropertyIssue> withPropertyNamePrefix(String prefix) {
+    return propertyIssue -> accept(propertyIssue.withPropertyNamePrefix(prefix));
+  }
+
+  public boolean isEmpty() {
+    for (Stripe stripe : stripes) {
+      stripe.lock.lock();
+      try {
+        if (!stripe.collected.isEmpty()) {
+          return false;
+        }
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return a snapshot of all issues collected so far, ordered by property path
+   */
+  public PropertyIssues toPropertyIssues() {
+    List<Collected> merged = new ArrayList<>();
+    for (Stripe stripe : stripes) {
+      stripe.lock.lock();
+      try {
+        merged.addAll(stripe.collected);
+      } finally {
+        stripe.lock.unlock();
+      }
+    }
+    merged.sort(BY_PATH_AND_SEQUENCE);
+    PropertyIssues propertyIssues = PropertyIssues.of();
+    merged.forEach(collected -> propertyIssues.add(collected.propertyIssue));
+    return propertyIssues;
+  }
+
+  @Override
+  public String toString() {
+    return toPropertyIssues().toString();
+  }
+
+  /**
+   * Compares dot separated paths segment by segment, numeric segments before others and by their number.
+   */
+  static int comparePaths(String a, String b) {
+    int aStart = 0;
+    int bStart = 0;
+    while (aStart <= a.length() && bStart <= b.length()) {
+      int aEnd = segmentEnd(a, aStart);
+      int bEnd = segmentEnd(b, bStart);
+      int result = compareSegments(a, aStart, aEnd, b, bStart, bEnd);
+      if (result != 0) {
+        return result;
+      }
+      aStart = aEnd + 1;
+      bStart = bEnd + 1;
+    }
+    return Boolean.compare(aStart <= a.length(), bStart <= b.length());
+  }
+
+  private static int segmentEnd(String path, int start) {
+    int end = path.indexOf('.', start);
+    return end < 0 ? path.length() : end;
+  }
+
+  private static int compareSegments(String a, int aStart, int aEnd, String b, int bStart, int bEnd) {
+    boolean aNumeric = isNumeric(a, aStart, aEnd);
+    boolean bNumeric = isNumeric(b, bStart, bEnd);
+    if (aNumeric != bNumeric) {
+      return aNumeric ? -1 : 1;
+    }
+    if (aNumeric && aEnd - aStart != bEnd - bStart) {
+      return Integer.compare(aEnd - aStart, bEnd - bStart);
+    }
+    int length = Math.min(aEnd - aStart, bEnd - bStart);
+    for (int i = 0; i < length; i++) {
+      int result = Character.compare(a.charAt(aStart + i), b.charAt(bStart + i));
+      if (result != 0) {
+        return result;
+      }
+    }
+    return Integer.compare(aEnd - aStart, bEnd - bStart);
+  }
+
+  private static boolean isNumeric(String path, int start, int end) {
+    if (start == end || (end - start > 1 && path.charAt(start) == '0')) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      if (path.charAt(i) < '0' || path.charAt(i) > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static class Stripe {
+    private final Lock lock = new ReentrantLock();
+    private final List<Collected> collected = new ArrayList<>();
+  }
+
+  /**
+   * An issue with its place in the order of collection across all stripes.
+   */
+  @RequiredArgsConstructor
+  private static class Collected {
+    private final long sequence;
+    private final PropertyIssue propertyIssue;
+  }
+}
@@ -4,8 +4,10 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
+import static java.util.Objects.nonNull;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter @ToString
@@ -29,23 +31,56 @@ public class PropertyIssue {
     return new PropertyIssue(prefix + propertyName, issue);
   }
 
-  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-  @Getter
+  /**
+   * The message can be supplied, it is rendered once it is read.
+   */
   public static class Issue {
     private final String code;
-    private final String message;
+    private volatile Supplier<String> messageSupplier;
+    private String message;
+
+    private Issue(String code, String message) {
+      this.code = code;
+      this.message = message;
+    }
+
+    private Issue(String code, Supplier<String> messageSupplier) {
+      this.code = code;
+      this.messageSupplier = messageSupplier;
+    }
 
     public static Issue of(String code, String message) {
       return new Issue(code, message);
     }
 
+    public static Issue of(String code, Supplier<String> messageSupplier) {
+      return new Issue(code, messageSupplier);
+    }
+
+    public String getCode() {
+      return code;
+    }
+
+    public String getMessage() {
+      Supplier<String> supplier = messageSupplier;
+      if (nonNull(supplier)) {
+        message = supplier.get();
+        messageSupplier = null;
+      }
+      return message;
+    }
+
     public Issue withMessage(String message) {
       return of(this.code, message);
     }
 
+    public Issue withMessage(Supplier<String> messageSupplier) {
+      return of(this.code, messageSupplier);
+    }
+
     @Override
     public String toString() {
-      return format("Issue(code=%s, message=%s)", code, message);
+      return format("Issue(code=%s, message=%s)", code, getMessage());
     }
   }
 }
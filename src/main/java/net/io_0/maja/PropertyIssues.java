@@ -1,15 +1,34 @@
 package net.io_0.maja;
 
 import net.io_0.maja.PropertyIssue.Issue;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
+/**
+ * Issues in the order they were found.
+ * Lookups by property name, property path prefix and issue code go through an index,
+ * built on the first lookup and kept up to date while issues are appended or replaced, also through list iterators and
+ * sub lists. Any other modification is noticed by its modCount and rebuilds the index on the next lookup.
+ */
 public class PropertyIssues extends ArrayList<PropertyIssue> {
+  private transient Index index;
+  private transient int indexedModCount;
+
   public static PropertyIssues of() {
     return new PropertyIssues();
   }
@@ -21,11 +40,72 @@ public class PropertyIssues extends ArrayList<PropertyIssue> {
   }
 
   public boolean containsPropertyName(String propertyName) {
-    return stream().anyMatch(pI -> pI.getPropertyName().equals(propertyName));
+    return !positionsOf(propertyName).isEmpty();
   }
 
   public Optional<Issue> getPropertyIssue(String propertyName) {
-    return stream().filter(pI -> pI.getPropertyName().equals(propertyName)).findFirst().map(PropertyIssue::getIssue);
+    List<Integer> positions = positionsOf(propertyName);
+    return positions.isEmpty() ? Optional.empty() : Optional.ofNullable(get(positions.get(0)).getIssue());
+  }
+
+  /**
+   * @param path property path, e.g. "pojos.3"
+   * @return issues of the property and all properties nested in it, e.g. "pojos.3.name" but not "pojos.30"
+   */
+  public PropertyIssues under(String path) {
+    Node node = index().nodes.get(path);
+    List<Integer> positions = new ArrayList<>();
+    if (nonNull(node)) {
+      node.collectPositions(positions);
+      positions.sort(null);
+    }
+    return at(positions);
+  }
+
+  public PropertyIssues withCode(String code) {
+    return at(index().positionsByCode.getOrDefault(code, List.of()));
+  }
+
+  @Override
+  public boolean add(PropertyIssue propertyIssue) {
+    boolean indexed = nonNull(index) && indexedModCount == modCount;
+    super.add(propertyIssue);
+    if (indexed) {
+      index.add(propertyIssue, size() - 1);
+      indexedModCount = modCount;
+    }
+    return true;
+  }
+
+  /**
+   * Updates the index in place, like for ArrayList a replacement doesn't count as structural modification.
+   */
+  @Override
+  public PropertyIssue set(int position, PropertyIssue propertyIssue) {
+    boolean indexed = nonNull(index) && indexedModCount == modCount;
+    PropertyIssue replaced = super.set(position, propertyIssue);
+    if (indexed) {
+      index.remove(replaced, position);
+      index.add(propertyIssue, position);
+    }
+    return replaced;
+  }
+
+  /**
+   * Unlike ArrayList's, the view replaces issues through {@link #set(int, PropertyIssue)}, so the index stays up to date.
+   */
+  @Override
+  public List<PropertyIssue> subList(int fromIndex, int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, size());
+    return new View(fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public Object clone() {
+    PropertyIssues clone = (PropertyIssues) super.clone();
+    clone.index = null;
+    clone.indexedModCount = 0;
+    return clone;
   }
 
   @Override
@@ -59,4 +139,162 @@ public class PropertyIssues extends ArrayList<PropertyIssue> {
     boolean add(PropertyIssue e);
     boolean addAll(Collection<? extends PropertyIssue> c);
   }
+
+  private List<Integer> positionsOf(String propertyName) {
+    Node node = index().nodes.get(propertyName);
+    return isNull(node) ? List.of() : node.positions;
+  }
+
+  private PropertyIssues at(List<Integer> positions) {
+    PropertyIssues propertyIssues = new PropertyIssues();
+    positions.forEach(position -> propertyIssues.add(get(position)));
+    return propertyIssues;
+  }
+
+  private Index index() {
+    if (isNull(index) || indexedModCount != modCount) {
+      index = new Index();
+      for (int i = 0; i < size(); i++) {
+        index.add(get(i), i);
+      }
+      indexedModCount = modCount;
+    }
+    return index;
+  }
+
+  /**
+   * Fail-fast range of this list, structural modifications go through this list's methods.
+   */
+  private class View extends AbstractList<PropertyIssue> implements RandomAccess {
+    private final int offset;
+    private int size;
+    private int expectedModCount = PropertyIssues.this.modCount;
+
+    private View(int offset, int size) {
+      this.offset = offset;
+      this.size = size;
+    }
+
+    @Override
+    public PropertyIssue get(int position) {
+      Objects.checkIndex(position, size);
+      checkForComodification();
+      return PropertyIssues.this.get(offset + position);
+    }
+
+    @Override
+    public PropertyIssue set(int position, PropertyIssue propertyIssue) {
+      Objects.checkIndex(position, size);
+      checkForComodification();
+      return PropertyIssues.this.set(offset + position, propertyIssue);
+    }
+
+    @Override
+    public void add(int position, PropertyIssue propertyIssue) {
+      Objects.checkIndex(position, size + 1);
+      checkForComodification();
+      PropertyIssues.this.add(offset + position, propertyIssue);
+      structurallyModified(1);
+    }
+
+    @Override
+    public PropertyIssue remove(int position) {
+      Objects.checkIndex(position, size);
+      checkForComodification();
+      PropertyIssue removed = PropertyIssues.this.remove(offset + position);
+      structurallyModified(-1);
+      return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+      checkForComodification();
+      PropertyIssues.this.removeRange(offset + fromIndex, offset + toIndex);
+      structurallyModified(fromIndex - toIndex);
+    }
+
+    @Override
+    public int size() {
+      checkForComodification();
+      return size;
+    }
+
+    private void structurallyModified(int sizeChange) {
+      expectedModCount = PropertyIssues.this.modCount;
+      size += sizeChange;
+      modCount++;
+    }
+
+    private void checkForComodification() {
+      if (PropertyIssues.this.modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * Positions by property name and issue code, property names are linked to a trie on their dot separated paths.
+   * Positions are kept in ascending order.
+   */
+  private static class Index {
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final Map<String, List<Integer>> positionsByCode = new HashMap<>();
+
+    private void add(PropertyIssue propertyIssue, int position) {
+      if (isNull(propertyIssue)) {
+        return;
+      }
+      insert(node(propertyIssue.getPropertyName()).positions, position);
+      insert(positionsByCode.computeIfAbsent(codeOf(propertyIssue), c -> new ArrayList<>(1)), position);
+    }
+
+    private void remove(PropertyIssue propertyIssue, int position) {
+      if (isNull(propertyIssue)) {
+        return;
+      }
+      delete(nodes.get(propertyIssue.getPropertyName()).positions, position);
+      delete(positionsByCode.get(codeOf(propertyIssue)), position);
+    }
+
+    private Node node(String path) {
+      Node node = nodes.get(path);
+      if (isNull(node)) {
+        node = new Node();
+        nodes.put(path, node);
+        int separator = isNull(path) ? -1 : path.lastIndexOf('.');
+        if (separator > 0) {
+          node(path.substring(0, separator)).children.add(node);
+        }
+      }
+      return node;
+    }
+  }
+
+  private static String codeOf(PropertyIssue propertyIssue) {
+    return isNull(propertyIssue.getIssue()) ? null : propertyIssue.getIssue().getCode();
+  }
+
+  private static void insert(List<Integer> positions, int position) {
+    int i = Collections.binarySearch(positions, position);
+    if (i < 0) {
+      positions.add(-i - 1, position);
+    }
+  }
+
+  private static void delete(List<Integer> positions, int position) {
+    int i = Collections.binarySearch(positions, position);
+    if (i >= 0) {
+      positions.remove(i);
+    }
+  }
+
+  private static class Node {
+    private final List<Integer> positions = new ArrayList<>(1);
+    private final List<Node> children = new ArrayList<>(0);
+
+    private void collectPositions(List<Integer> into) {
+      into.addAll(positions);
+      children.forEach(child -> child.collectPositions(into));
+    }
+  }
 }
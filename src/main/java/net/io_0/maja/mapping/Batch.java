@@ -0,0 +1,44 @@
+package net.io_0.maja.mapping;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import net.io_0.maja.PropertyIssues;
+
+import java.util.List;
+
+/**
+ * Documents mapped together, see {@link Mapper#fromJsonBatch(List, Class, Mapper.Context)}.
+ * Values and issues are in input order, a document that couldn't be mapped at all has a null value.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter @ToString
+public class Batch<T> {
+  private final List<T> values;
+  private final List<PropertyIssues> propertyIssues;
+  /**
+   * Bytes of all documents, -1 if they weren't bytes.
+   */
+  private final long size;
+  private final long durationNanos;
+
+  static <T> Batch<T> of(List<T> values, List<PropertyIssues> propertyIssues, long size, long durationNanos) {
+    return new Batch<>(values, propertyIssues, size, durationNanos);
+  }
+
+  public boolean hasIssues() {
+    return propertyIssues.stream().anyMatch(issues -> !issues.isEmpty());
+  }
+
+  public double getDocumentsPerSecond() {
+    return values.size() * 1e9 / Math.max(durationNanos, 1);
+  }
+
+  /**
+   * @return throughput, -1 if the documents weren't bytes
+   */
+  public double getBytesPerSecond() {
+    return size < 0 ? -1 : size * 1e9 / Math.max(durationNanos, 1);
+  }
+}
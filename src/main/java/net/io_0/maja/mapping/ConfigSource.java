@@ -0,0 +1,168 @@
+package net.io_0.maja.mapping;
+
+import lombok.extern.slf4j.Slf4j;
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.mapping.Mapper.MappingException;
+import net.io_0.maja.validation.Validation;
+import net.io_0.maja.validation.Validator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+import static java.util.Objects.nonNull;
+
+/**
+ * A configuration file, mapped and validated, that can be reloaded cheaply.
+ * A content hash is kept, so only a changed document gets parsed and validated again.
+ * The current value is published atomically, readers never block. A failed reload keeps the previous value.
+ * Files ending with ".json" are read as JSON, all others as YAML.
+ */
+@Slf4j
+public class ConfigSource<T> implements Closeable {
+  private final Path path;
+  private final Class<T> type;
+  private final Validator<T> validator;
+  private final Lock reloadLock = new ReentrantLock();
+  private volatile T value;
+  private byte[] contentHash;
+  private WatchService watchService;
+
+  private ConfigSource(Path path, Class<T> type, Validator<T> validator) {
+    this.path = path;
+    this.type = type;
+    this.validator = validator;
+  }
+
+  public static <T> ConfigSource<T> of(Path path, Class<T> type) {
+    return of(path, type, Validation::valid);
+  }
+
+  /**
+   * Load a configuration file.
+   *
+   * @param path file to load
+   * @param type type to map to
+   * @param validator validation to pass, in addition to mapping without issues
+   * @return loaded source
+   * @throws MappingException if the file can't be read
+   * @throws Validator.ValidationException if there are mapping or validation issues
+   */
+  public static <T> ConfigSource<T> of(Path path, Class<T> type, Validator<T> validator) {
+    ConfigSource<T> source = new ConfigSource<>(path, type, validator);
+    source.reload();
+    return source;
+  }
+
+  /**
+   * @return value of the last successful (re)load
+   */
+  public T get() {
+    return value;
+  }
+
+  /**
+   * Reload if the content of the file changed.
+   *
+   * @return true if a changed value got published
+   * @throws MappingException if the file can't be read
+   * @throws Validator.ValidationException if there are mapping or validation issues
+   */
+  public boolean reload() {
+    reloadLock.lock();
+    try {
+      byte[] content = Files.readAllBytes(path);
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+      if (Arrays.equals(hash, contentHash)) {
+        return false;
+      }
+      T mapped = map(new String(content, StandardCharsets.UTF_8));
+      contentHash = hash;
+      value = mapped;
+      return true;
+    } catch (IOException | NoSuchAlgorithmException e) {
+      throw new MappingException(e);
+    } finally {
+      reloadLock.unlock();
+    }
+  }
+
+  public ConfigSource<T> watch() {
+    return watch(e -> log.warn("Failed to reload '{}'", path, e));
+  }
+
+  /**
+   * Reload on file system changes, watched by a virtual thread until closed.
+   *
+   * @param onFailedReload called with the reason a reload failed
+   * @return this source
+   */
+  public ConfigSource<T> watch(Consumer<RuntimeException> onFailedReload) {
+    reloadLock.lock();
+    try {
+      if (nonNull(watchService)) {
+        return this;
+      }
+      WatchService ws = path.getFileSystem().newWatchService();
+      path.toAbsolutePath().getParent().register(ws, ENTRY_CREATE, ENTRY_MODIFY);
+      watchService = ws;
+      Thread.ofVirtual().name("config-source-" + path.getFileName()).start(() -> reloadOnChanges(ws, onFailedReload));
+      return this;
+    } catch (IOException e) {
+      throw new MappingException(e);
+    } finally {
+      reloadLock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reloadLock.lock();
+    try {
+      if (nonNull(watchService)) {
+        watchService.close();
+        watchService = null;
+      }
+    } finally {
+      reloadLock.unlock();
+    }
+  }
+
+  private void reloadOnChanges(WatchService ws, Consumer<RuntimeException> onFailedReload) {
+    try {
+      while (true) {
+        WatchKey key = ws.take();
+        boolean affected = key.pollEvents().stream()
+          .anyMatch(event -> event.kind() == OVERFLOW || path.getFileName().equals(event.context()));
+        key.reset();
+        if (affected) {
+          try {
+            reload();
+          } catch (RuntimeException e) {
+            onFailedReload.accept(e);
+          }
+        }
+      }
+    } catch (ClosedWatchServiceException e) {
+      // closed, stop watching
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private T map(String content) {
+    PropertyIssues mappingIssues = PropertyIssues.of();
+    T mapped = path.getFileName().toString().endsWith(".json") ?
+      Mapper.fromJson(content, mappingIssues::add, type) :
+      Mapper.fromYaml(content, mappingIssues::add, type);
+    return Validator.<T>of(mappingIssues).and(validator).ensureValidity(mapped);
+  }
+}
@@ -0,0 +1,157 @@
+package net.io_0.maja.mapping;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import net.io_0.maja.PropertyBundle;
+import net.io_0.maja.PropertyIssue;
+import net.io_0.maja.mapping.Mapper.MappingException;
+import net.io_0.maja.mapping.jackson.PropertyModel;
+import net.io_0.maja.mapping.jackson.PropertyModel.ModelProperty;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static net.io_0.maja.StringUtils.firstCharToLowerCase;
+import static net.io_0.maja.StringUtils.firstCharToUpperCase;
+
+/**
+ * Converts between types with matching property names, e.g. API DTOs and internal PropertyBundles, without a Map in between.
+ * The plan is compiled once: properties are matched by Java or serialized name, ignoring the case of the first character,
+ * types are checked and getters, setters and the constructor are resolved to method handles.
+ * Properties with types that don't fit are reported as issues and skipped.
+ * Converting copies only assigned properties via setters, so absent stays absent and explicit nulls stay null.
+ * Values are assigned as they are, not copied, see {@link Mapper#deepCopy(Object)}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Converter<S, T> {
+  public static final String TYPE_MISMATCH = "Type Mismatch";
+
+  private final MethodHandle constructor;
+  private final List<Step> steps;
+
+  static <S, T> Converter<S, T> of(PropertyModel source, PropertyModel target, Consumer<PropertyIssue> propertyIssueConsumer) {
+    List<Step> steps = new ArrayList<>();
+    for (ModelProperty targetProperty : target.getProperties()) {
+      Optional<ModelProperty> match = targetProperty.isWritable() ? find(source, targetProperty) : Optional.empty();
+      if (match.isEmpty()) {
+        continue;
+      }
+
+      ModelProperty sourceProperty = match.get();
+      if (!isAssignable(sourceProperty.getType(), targetProperty.getType())) {
+        propertyIssueConsumer.accept(PropertyIssue.of(targetProperty.getSerializedName(), TYPE_MISMATCH, format(
+          "%s can't be assigned to %s", sourceProperty.getType().toCanonical(), targetProperty.getType().toCanonical()
+        )));
+        continue;
+      }
+
+      steps.add(new Step(
+        source.isPropertyBundle() ? sourceProperty.getName() : null,
+        target.isPropertyBundle() ? targetProperty.getName() : null,
+        sourceProperty.getterHandle(),
+        targetProperty.setterHandle(),
+        targetProperty.getType().isPrimitive()
+      ));
+    }
+
+    return new Converter<>(constructorOf(target.getType()), List.copyOf(steps));
+  }
+
+  /**
+   * Convert, properties that aren't assigned in source stay unassigned in the result.
+   *
+   * @param source object to convert
+   * @return new instance of the target type, or null if source is null
+   */
+  @SuppressWarnings("unchecked")
+  public T convert(S source) {
+    if (isNull(source)) {
+      return null;
+    }
+
+    try {
+      Object target = (Object) constructor.invokeExact();
+      for (Step step : steps) {
+        step.apply(source, target);
+      }
+      return (T) target;
+    } catch (Throwable t) {
+      throw new MappingException(t);
+    }
+  }
+
+  private static Optional<ModelProperty> find(PropertyModel source, ModelProperty targetProperty) {
+    return source.find(targetProperty.getName())
+      .or(() -> source.find(targetProperty.getSerializedName()))
+      .or(() -> source.find(firstCharToLowerCase(targetProperty.getName())))
+      .or(() -> source.find(firstCharToUpperCase(targetProperty.getName())))
+      .filter(ModelProperty::isReadable);
+  }
+
+  private static boolean isAssignable(JavaType from, JavaType to) {
+    if (!boxed(to.getRawClass()).isAssignableFrom(boxed(from.getRawClass()))) {
+      return false;
+    }
+    if (!to.isContainerType() || !from.isContainerType() || to.getContentType().isJavaLangObject()) {
+      return true;
+    }
+    return isAssignable(from.getContentType(), to.getContentType()) &&
+      (!to.isMapLikeType() || !from.isMapLikeType() || isAssignable(from.getKeyType(), to.getKeyType()));
+  }
+
+  private static Class<?> boxed(Class<?> type) {
+    return type.isPrimitive() ? ClassUtil.wrapperType(type) : type;
+  }
+
+  private static MethodHandle constructorOf(Class<?> type) {
+    Constructor<?> constructor = ClassUtil.findConstructor(type, true);
+    if (isNull(constructor)) {
+      throw new IllegalArgumentException(format("%s has no no-args constructor", type.getSimpleName()));
+    }
+    try {
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException(format("Couldn't access constructor of %s", type.getSimpleName()), e);
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class Step {
+    /**
+     * Java name of the source property if it belongs to a PropertyBundle, so only set properties get copied
+     */
+    private final String sourceBundleName;
+    /**
+     * Java name of the target property if it belongs to a PropertyBundle, marked set even without a setter call
+     */
+    private final String targetBundleName;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final boolean primitive;
+
+    private void apply(Object source, Object target) throws Throwable {
+      if (nonNull(sourceBundleName) && !((PropertyBundle) source).isPropertySet(sourceBundleName)) {
+        return;
+      }
+      Object value = (Object) getter.invokeExact(source);
+      if (isNull(value) && primitive) {
+        return;
+      }
+      setter.invokeExact(target, value);
+      if (nonNull(targetBundleName)) {
+        ((PropertyBundle) target).markPropertySet(targetBundleName);
+      }
+    }
+  }
+}
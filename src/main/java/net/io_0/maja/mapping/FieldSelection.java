@@ -0,0 +1,66 @@
+package net.io_0.maja.mapping;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A sparse fieldset, e.g. "a,b.c" from a "?fields=a,b.c" query parameter, as tree of selected property names.
+ * Names are the ones used in documents, so names from @WithUnconventionalName apply.
+ * A selection without any path, e.g. from a blank "?fields=", selects everything.
+ * A selection is parsed once and can be reused, it isn't modified afterwards and is thread safe.
+ */
+public class FieldSelection {
+  public static final FieldSelection ALL = whole();
+  private final Map<String, FieldSelection> children = new HashMap<>();
+  private boolean whole;
+
+  private FieldSelection() {}
+
+  /**
+   * @param fields comma separated dotted property paths, e.g. "a,b.c"
+   */
+  public static FieldSelection of(String fields) {
+    return of(Arrays.asList(fields.split(",")));
+  }
+
+  /**
+   * @param paths dotted property paths, e.g. "b.c"
+   */
+  public static FieldSelection of(Collection<String> paths) {
+    FieldSelection root = new FieldSelection();
+    for (String path : paths) {
+      if (path.isBlank()) {
+        continue;
+      }
+      FieldSelection node = root;
+      for (String name : path.trim().split("\\.")) {
+        node = node.children.computeIfAbsent(name, n -> new FieldSelection());
+      }
+      node.whole = true;
+    }
+    return root.children.isEmpty() ? ALL : root;
+  }
+
+  private static FieldSelection whole() {
+    FieldSelection selection = new FieldSelection();
+    selection.whole = true;
+    return selection;
+  }
+
+  /**
+   * @return true if everything below is selected
+   */
+  public boolean selectsAll() {
+    return whole;
+  }
+
+  /**
+   * @param name property name
+   * @return selection below the property, null if the property isn't selected
+   */
+  public FieldSelection select(String name) {
+    return whole ? this : children.get(name);
+  }
+}
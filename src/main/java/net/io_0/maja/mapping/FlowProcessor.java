@@ -0,0 +1,199 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.mapping.Mapper.MappingException;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Turns inputs into outputs between a publisher and a single subscriber, honouring the subscriber's demand.
+ * Upstream is asked for one input at a time, and only while outputs are demanded and none are pending,
+ * so at most the outputs of one input are buffered.
+ * Signals are serialized by a drain loop, whichever thread enters it delivers, others only mark work as missed.
+ * Once terminated, by completion, error or cancellation, the drain loop calls {@link #release()} exactly once,
+ * as soon as no input is being processed anymore.
+ */
+abstract class FlowProcessor<I, O> implements Flow.Processor<I, O>, Flow.Subscription {
+  private final Queue<O> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicLong requested = new AtomicLong();
+  private final AtomicInteger work = new AtomicInteger();
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+  private volatile Flow.Subscription upstream;
+  private volatile Flow.Subscriber<? super O> downstream;
+  private volatile boolean upstreamRequested;
+  private volatile boolean done;
+  private volatile boolean cancelled;
+  private volatile boolean processing;
+  private volatile Throwable error;
+  // only accessed in the drain loop
+  private boolean upstreamCancelled;
+  private boolean terminated;
+  private boolean released;
+
+  /**
+   * Process an input, outputs can be emitted right away.
+   */
+  protected abstract void process(I input, Consumer<O> emit) throws IOException;
+
+  /**
+   * Upstream completed, last outputs can be emitted.
+   */
+  protected abstract void complete(Consumer<O> emit) throws IOException;
+
+  /**
+   * Flow terminated, free resources, e.g. pooled buffers. Never called while an input is processed.
+   */
+  protected void release() {}
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super O> subscriber) {
+    requireNonNull(subscriber);
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override public void request(long n) {}
+        @Override public void cancel() {}
+      });
+      subscriber.onError(new IllegalStateException("Only one subscriber is supported"));
+      return;
+    }
+    downstream = subscriber;
+    subscriber.onSubscribe(this);
+    drain();
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    requireNonNull(subscription);
+    if (nonNull(upstream)) {
+      subscription.cancel();
+      return;
+    }
+    upstream = subscription;
+    drain();
+  }
+
+  @Override
+  public void onNext(I input) {
+    requireNonNull(input);
+    processing = true;
+    try {
+      if (!done && !cancelled) {
+        process(input, pending::add);
+        upstreamRequested = false;
+      }
+    } catch (IOException | RuntimeException e) {
+      fail(e);
+    } finally {
+      processing = false;
+    }
+    drain();
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    requireNonNull(throwable);
+    if (done) {
+      return;
+    }
+    error = throwable;
+    done = true;
+    drain();
+  }
+
+  @Override
+  public void onComplete() {
+    processing = true;
+    try {
+      if (!done && !cancelled) {
+        complete(pending::add);
+      }
+    } catch (IOException | RuntimeException e) {
+      error = e instanceof IOException ? new MappingException(e) : e;
+    } finally {
+      done = true;
+      processing = false;
+    }
+    drain();
+  }
+
+  @Override
+  public void request(long n) {
+    if (n <= 0) {
+      fail(new IllegalArgumentException("Requested " + n + " outputs, must be positive"));
+      drain();
+      return;
+    }
+    requested.getAndAccumulate(n, (current, more) -> current + more < 0 ? Long.MAX_VALUE : current + more);
+    drain();
+  }
+
+  @Override
+  public void cancel() {
+    cancelled = true;
+    drain();
+  }
+
+  private void fail(Throwable throwable) {
+    error = throwable instanceof IOException ? new MappingException(throwable) : throwable;
+    done = true;
+    cancelled = true;
+  }
+
+  private void drain() {
+    if (work.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      Flow.Subscription subscription = upstream;
+      if (cancelled && !upstreamCancelled && nonNull(subscription)) {
+        upstreamCancelled = true;
+        subscription.cancel();
+      }
+
+      Flow.Subscriber<? super O> subscriber = downstream;
+      if (nonNull(subscriber) && !terminated) {
+        if (nonNull(error)) {
+          terminate();
+          subscriber.onError(error);
+        } else if (cancelled) {
+          terminate();
+        } else {
+          while (requested.get() > 0 && !pending.isEmpty() && !cancelled) {
+            requested.decrementAndGet();
+            subscriber.onNext(pending.poll());
+          }
+          if (done && pending.isEmpty() && isNull(error) && !cancelled) {
+            terminate();
+            subscriber.onComplete();
+          } else if (!done && !cancelled && !upstreamRequested && pending.isEmpty() && requested.get() > 0 && nonNull(subscription)) {
+            upstreamRequested = true;
+            subscription.request(1);
+          }
+        }
+      }
+
+      if (terminated && !released && !processing) {
+        released = true;
+        release();
+      }
+
+      missed = work.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void terminate() {
+    terminated = true;
+    pending.clear();
+  }
+}
@@ -0,0 +1,98 @@
+package net.io_0.maja.mapping;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import net.io_0.maja.mapping.Mapper.MappingException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Decodes a JSON array, arriving in chunks, into its elements, see {@link FlowProcessor}.
+ * Chunks are tokenized by a non-blocking parser, each element is bound as soon as its last token arrived.
+ * Null elements are skipped, a subscriber can't receive them.
+ */
+class JsonArrayDecoder<T> extends FlowProcessor<ByteBuffer, T> {
+  private final JsonParser parser;
+  private final Binder<T> binder;
+  private TokenBuffer element;
+  private int depth = 0;
+  private long index = 0;
+  private boolean started = false;
+  private boolean ended = false;
+
+  JsonArrayDecoder(JsonParser parser, Binder<T> binder) {
+    this.parser = parser;
+    this.binder = binder;
+  }
+
+  @Override
+  protected void process(ByteBuffer chunk, Consumer<T> emit) throws IOException {
+    ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(chunk);
+    bindAvailableElements(emit);
+  }
+
+  @Override
+  protected void complete(Consumer<T> emit) throws IOException {
+    ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+    bindAvailableElements(emit);
+    if (!ended) {
+      throw new MappingException(new IllegalArgumentException("Unexpected end of JSON array"));
+    }
+  }
+
+  /**
+   * Closing the parser returns its buffers to the pool, whichever way the flow ended.
+   */
+  @Override
+  protected void release() {
+    element = null;
+    try {
+      parser.close();
+    } catch (IOException e) {
+      // nothing left to read, nothing to report to
+    }
+  }
+
+  private void bindAvailableElements(Consumer<T> emit) throws IOException {
+    for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.NOT_AVAILABLE; token = parser.nextToken()) {
+      if (!started) {
+        if (token != JsonToken.START_ARRAY) {
+          throw new MappingException(new IllegalArgumentException("Expected a JSON array, got " + token));
+        }
+        started = true;
+      } else if (ended) {
+        throw new MappingException(new IllegalArgumentException("Unexpected " + token + " after JSON array"));
+      } else if (depth == 0 && token == JsonToken.END_ARRAY) {
+        ended = true;
+      } else {
+        if (isNull(element)) {
+          element = new TokenBuffer(parser.getCodec(), false); // without the parsing context of the array, property names start at the element
+        }
+        element.copyCurrentEvent(parser);
+        depth += token.isStructStart() ? 1 : token.isStructEnd() ? -1 : 0;
+        if (depth == 0) {
+          T value = binder.bind(index++, element);
+          element = null;
+          if (nonNull(value)) {
+            emit.accept(value);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Binds the tokens of an element.
+   */
+  @FunctionalInterface
+  interface Binder<T> {
+    T bind(long index, TokenBuffer element) throws IOException;
+  }
+}
@@ -0,0 +1,34 @@
+package net.io_0.maja.mapping;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Encodes elements into a JSON array, one chunk per element, see {@link FlowProcessor}.
+ * The chunk of the first element opens the array, the chunk on completion closes it.
+ */
+class JsonArrayEncoder<T> extends FlowProcessor<T, ByteBuffer> {
+  private final Function<T, byte[]> serializer;
+  private boolean first = true;
+
+  JsonArrayEncoder(Function<T, byte[]> serializer) {
+    this.serializer = serializer;
+  }
+
+  @Override
+  protected void process(T input, Consumer<ByteBuffer> emit) {
+    byte[] json = serializer.apply(input);
+    ByteBuffer chunk = ByteBuffer.allocate(json.length + 1);
+    chunk.put((byte) (first ? '[' : ','));
+    chunk.put(json);
+    first = false;
+    emit.accept(chunk.flip());
+  }
+
+  @Override
+  protected void complete(Consumer<ByteBuffer> emit) {
+    emit.accept(ByteBuffer.wrap((first ? "[]" : "]").getBytes(StandardCharsets.UTF_8)));
+  }
+}
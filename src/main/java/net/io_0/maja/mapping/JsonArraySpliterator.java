@@ -0,0 +1,257 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.mapping.Mapper.MappingException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits a top level JSON array into its elements, so they can be bound in parallel, e.g. records of a huge file.
+ * Finding element boundaries is a cheap sequential scan over the raw bytes, tracking nesting and string/escape state only.
+ * Splitting hands off the boundaries of the next batch of elements, binding them happens in the thread that processes the batch.
+ * Elements keep their order. Files are memory mapped in windows, which also covers files larger than 2 GB.
+ */
+class JsonArraySpliterator<T> implements Spliterator<T> {
+  private static final int WINDOW_SHIFT = 30;
+  private static final int BATCH_UNIT = 1024;
+  private static final int MAX_BATCH = 1 << 16;
+  private static final long MAX_BATCH_BYTES = 32L * 1024 * 1024;
+
+  private final ByteBuffer[] windows;
+  private final long size;
+  private final Binder<T> binder;
+  private long position = 0;
+  private long index = 0;
+  private boolean started = false;
+  private boolean ended = false;
+  private int batch = 0;
+
+  private JsonArraySpliterator(ByteBuffer[] windows, long size, Binder<T> binder) {
+    this.windows = windows;
+    this.size = size;
+    this.binder = binder;
+  }
+
+  static <T> JsonArraySpliterator<T> of(byte[] json, Binder<T> binder) {
+    ByteBuffer[] windows = new ByteBuffer[(int) ((json.length + (1L << WINDOW_SHIFT) - 1) >>> WINDOW_SHIFT)];
+    for (int i = 0; i < windows.length; i++) {
+      int from = i << WINDOW_SHIFT;
+      windows[i] = ByteBuffer.wrap(json, from, Math.min(json.length - from, 1 << WINDOW_SHIFT)).slice();
+    }
+    return new JsonArraySpliterator<>(windows, json.length, binder);
+  }
+
+  static <T> JsonArraySpliterator<T> of(Path path, Binder<T> binder) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      ByteBuffer[] windows = new ByteBuffer[(int) ((size + (1L << WINDOW_SHIFT) - 1) >>> WINDOW_SHIFT)];
+      for (int i = 0; i < windows.length; i++) {
+        long from = (long) i << WINDOW_SHIFT;
+        windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(size - from, 1L << WINDOW_SHIFT));
+      }
+      return new JsonArraySpliterator<>(windows, size, binder);
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    long[] range = nextRange();
+    if (range == null) {
+      return false;
+    }
+    action.accept(binder.bind(index - 1, bytes(range[0], range[1])));
+    return true;
+  }
+
+  /**
+   * @return the next batch of elements, batches grow like the ones of {@link java.util.Spliterators.AbstractSpliterator}
+   */
+  @Override
+  public Spliterator<T> trySplit() {
+    int maxCount = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+    long[] ranges = new long[2 * maxCount];
+    long firstIndex = index;
+    int count = 0;
+    long bytes = 0;
+    long[] range;
+    while (count < maxCount && bytes < MAX_BATCH_BYTES && (range = nextRange()) != null) {
+      ranges[2 * count] = range[0];
+      ranges[2 * count + 1] = range[1];
+      bytes += range[1] - range[0];
+      count++;
+    }
+    if (count == 0) {
+      return null;
+    }
+    batch = count;
+    return new Elements(ranges, firstIndex, 0, count);
+  }
+
+  @Override
+  public long estimateSize() {
+    return ended ? 0 : Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED;
+  }
+
+  /**
+   * Scans to the next element.
+   *
+   * @return start (inclusive) and end (exclusive) of the element, null at the end of the array
+   */
+  private long[] nextRange() {
+    if (ended) {
+      return null;
+    }
+    if (!started) {
+      skipWhitespace();
+      if (position >= size || byteAt(position) != '[') {
+        throw new MappingException(new IllegalArgumentException("Expected a JSON array at offset " + position));
+      }
+      position++;
+      started = true;
+    } else {
+      skipWhitespace();
+      expectMore();
+      if (byteAt(position) == ',') {
+        position++;
+      }
+    }
+
+    skipWhitespace();
+    expectMore();
+    if (byteAt(position) == ']') {
+      ended = true;
+      return null;
+    }
+
+    long start = position;
+    int depth = 0;
+    boolean inString = false;
+    boolean escaped = false;
+    for (; position < size; position++) {
+      byte b = byteAt(position);
+      if (inString) {
+        if (escaped) {
+          escaped = false;
+        } else if (b == '\\') {
+          escaped = true;
+        } else if (b == '"') {
+          inString = false;
+        }
+      } else if (b == '"') {
+        inString = true;
+      } else if (b == '{' || b == '[') {
+        depth++;
+      } else if (b == '}' || b == ']') {
+        if (depth == 0) {
+          break;
+        }
+        depth--;
+      } else if (b == ',' && depth == 0) {
+        break;
+      }
+    }
+    expectMore();
+    index++;
+    return new long[] { start, position };
+  }
+
+  private void skipWhitespace() {
+    while (position < size) {
+      byte b = byteAt(position);
+      if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+        return;
+      }
+      position++;
+    }
+  }
+
+  private void expectMore() {
+    if (position >= size) {
+      throw new MappingException(new IllegalArgumentException("Unexpected end of JSON array at offset " + position));
+    }
+  }
+
+  private byte byteAt(long offset) {
+    return windows[(int) (offset >>> WINDOW_SHIFT)].get((int) (offset & ((1 << WINDOW_SHIFT) - 1)));
+  }
+
+  private byte[] bytes(long from, long to) {
+    byte[] bytes = new byte[Math.toIntExact(to - from)];
+    int copied = 0;
+    while (copied < bytes.length) {
+      long offset = from + copied;
+      ByteBuffer window = windows[(int) (offset >>> WINDOW_SHIFT)];
+      int windowOffset = (int) (offset & ((1 << WINDOW_SHIFT) - 1));
+      int length = Math.min(bytes.length - copied, window.limit() - windowOffset);
+      window.get(windowOffset, bytes, copied, length);
+      copied += length;
+    }
+    return bytes;
+  }
+
+  /**
+   * Binds the bytes of an element.
+   */
+  @FunctionalInterface
+  interface Binder<T> {
+    T bind(long index, byte[] element);
+  }
+
+  /**
+   * Elements with known boundaries, bound on advancing.
+   */
+  private class Elements implements Spliterator<T> {
+    private final long[] ranges;
+    private final long firstIndex;
+    private int from;
+    private final int to;
+
+    private Elements(long[] ranges, long firstIndex, int from, int to) {
+      this.ranges = ranges;
+      this.firstIndex = firstIndex;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      if (from >= to) {
+        return false;
+      }
+      action.accept(binder.bind(firstIndex + from, bytes(ranges[2 * from], ranges[2 * from + 1])));
+      from++;
+      return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+      int middle = (from + to) >>> 1;
+      if (middle <= from) {
+        return null;
+      }
+      Elements prefix = new Elements(ranges, firstIndex, from, middle);
+      from = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED;
+    }
+  }
+}
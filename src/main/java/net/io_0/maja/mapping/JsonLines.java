@@ -0,0 +1,118 @@
+package net.io_0.maja.mapping;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.io_0.maja.mapping.Mapper.MappingException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Splits newline delimited JSON into lines on the raw bytes, nothing is decoded before a line is mapped.
+ * Lines are read lazily, blank lines are skipped but counted. A parallel stream maps batches of lines concurrently, in order.
+ */
+class JsonLines extends Spliterators.AbstractSpliterator<JsonLines.Line> {
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private final InputStream inputStream;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position = 0;
+  private int limit = 0;
+  private long lineNumber = 0;
+  private boolean endOfInput = false;
+
+  private JsonLines(InputStream inputStream) {
+    super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+    this.inputStream = inputStream;
+  }
+
+  /**
+   * @return lines, closing the stream closes the input stream
+   */
+  static Stream<Line> split(InputStream inputStream) {
+    return StreamSupport.stream(new JsonLines(inputStream), false).onClose(() -> {
+      try {
+        inputStream.close();
+      } catch (IOException e) {
+        throw new MappingException(e);
+      }
+    });
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Line> action) {
+    try {
+      byte[] bytes;
+      while (!isNull(bytes = nextLine())) {
+        lineNumber++;
+        if (!isBlank(bytes)) {
+          action.accept(new Line(lineNumber, bytes));
+          return true;
+        }
+      }
+      return false;
+    } catch (IOException e) {
+      throw new MappingException(e);
+    }
+  }
+
+  private byte[] nextLine() throws IOException {
+    ByteArrayOutputStream partial = null;
+    while (true) {
+      for (int i = position; i < limit; i++) {
+        if (buffer[i] == '\n') {
+          byte[] line = concat(partial, position, i);
+          position = i + 1;
+          return line;
+        }
+      }
+      if (endOfInput) {
+        return isNull(partial) ? null : partial.toByteArray();
+      }
+      if (position < limit) {
+        partial = isNull(partial) ? new ByteArrayOutputStream() : partial;
+        partial.write(buffer, position, limit - position);
+      }
+      int read = inputStream.read(buffer);
+      position = 0;
+      limit = Math.max(0, read);
+      endOfInput = read < 0;
+    }
+  }
+
+  private byte[] concat(ByteArrayOutputStream partial, int from, int to) {
+    if (isNull(partial)) {
+      return Arrays.copyOfRange(buffer, from, to);
+    }
+    partial.write(buffer, from, to - from);
+    return partial.toByteArray();
+  }
+
+  private static boolean isBlank(byte[] bytes) {
+    for (byte b : bytes) {
+      if (b != ' ' && b != '\t' && b != '\r') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  @Getter
+  static class Line {
+    /**
+     * Starting with 1.
+     */
+    private final long number;
+    private final byte[] bytes;
+  }
+}
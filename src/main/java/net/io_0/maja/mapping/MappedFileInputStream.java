@@ -0,0 +1,76 @@
+package net.io_0.maja.mapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through memory mapped windows, so bytes go from the page cache straight into the parser, without a Reader decoding them.
+ * Windows are remapped while reading, which also covers files larger than 2 GB, the limit of a single mapping.
+ */
+class MappedFileInputStream extends InputStream {
+  private static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+  private final FileChannel channel;
+  private final long size;
+  private final long windowSize;
+  private long windowStart = 0;
+  private MappedByteBuffer window;
+
+  MappedFileInputStream(Path path) throws IOException {
+    this(path, DEFAULT_WINDOW_SIZE);
+  }
+
+  MappedFileInputStream(Path path, long windowSize) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.size = channel.size();
+    this.windowSize = windowSize;
+  }
+
+  @Override
+  public int read() throws IOException {
+    return hasRemaining() ? window.get() & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    if (!hasRemaining()) {
+      return -1;
+    }
+    int count = Math.min(length, window.remaining());
+    window.get(bytes, offset, count);
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return window == null ? 0 : window.remaining();
+  }
+
+  @Override
+  public void close() throws IOException {
+    window = null;
+    channel.close();
+  }
+
+  /**
+   * Maps the next window if the current one is used up.
+   */
+  private boolean hasRemaining() throws IOException {
+    if (window != null && window.hasRemaining()) {
+      return true;
+    }
+    long next = window == null ? 0 : windowStart + window.capacity();
+    if (next >= size) {
+      return false;
+    }
+    window = channel.map(FileChannel.MapMode.READ_ONLY, next, Math.min(windowSize, size - next));
+    windowStart = next;
+    return true;
+  }
+}
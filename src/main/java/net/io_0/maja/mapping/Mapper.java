@@ -1,11 +1,20 @@
 package net.io_0.maja.mapping;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pivovarit.function.ThrowingFunction;
@@ -13,26 +22,90 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import net.io_0.maja.PropertyIssue;
 import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.mapping.jackson.ArrayIndexTrackingParser;
+import net.io_0.maja.mapping.jackson.BoundedBufferRecyclerPool;
+import net.io_0.maja.mapping.jackson.DeepCopier;
+import net.io_0.maja.mapping.jackson.FieldSelectionFilter;
 import net.io_0.maja.mapping.jackson.FirstCharCaseIgnoredPropertyNamingStrategy;
+import net.io_0.maja.mapping.jackson.MergePatchDiffer;
+import net.io_0.maja.mapping.jackson.MergePatcher;
+import net.io_0.maja.mapping.jackson.ProblemDetailsWriter;
 import net.io_0.maja.mapping.jackson.PropertyBundleBeanSerializerModifier;
 import net.io_0.maja.mapping.jackson.PropertyIssueCollectingDeserializationProblemHandler;
+import net.io_0.maja.mapping.jackson.PropertyModel;
+import net.io_0.maja.mapping.jackson.PropertyPathFilteringParser;
 import net.io_0.maja.mapping.jackson.WithUnconventionalNameAnnotationIntrospector;
+import net.io_0.maja.metrics.Listener;
+import net.io_0.maja.metrics.Listeners;
+import net.io_0.maja.metrics.MappingEvent;
+import net.io_0.maja.metrics.Observation;
+import net.io_0.maja.metrics.Operation;
+import net.io_0.maja.metrics.PropertyIssueEvent;
+import net.io_0.maja.metrics.SerializationEvent;
 
-import java.io.IOException;
-import java.io.Reader;
-import java.io.Writer;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static net.io_0.maja.mapping.jackson.FieldSelectionFilter.filterProviderOf;
+import static net.io_0.maja.mapping.jackson.FieldSelectionFilter.prepForFieldSelection;
 import static lombok.AccessLevel.PRIVATE;
 
 @NoArgsConstructor(access = PRIVATE)
 public class Mapper {
+  public static final String BUFFER_POOL_CAPACITY_PROPERTY = "net.io_0.maja.bufferPoolCapacity";
+  /**
+   * Issue code for a document of a batch or stream that can't be read at all, e.g. because it's no JSON.
+   */
+  public static final String MALFORMED_DOCUMENT = "Malformed Document";
+  /**
+   * Parser and generator buffers are shared by all object mappers and threads, which suits virtual threads.
+   * The capacity can be set with the system property {@value BUFFER_POOL_CAPACITY_PROPERTY}.
+   */
+  private static final BoundedBufferRecyclerPool bufferPool = new BoundedBufferRecyclerPool(Integer.getInteger(BUFFER_POOL_CAPACITY_PROPERTY, 64));
+  /**
+   * Configured object mappers are thread safe and cache the (de)serializers they build, so they are shared.
+   * Only context instantiators, which register a module, require a dedicated object mapper.
+   */
+  private static final ObjectMapper jsonObjectMapper = prepForJsonOrYamlMapping(newObjectMapper(JsonMapper.builder()));
+  private static final ObjectMapper yamlObjectMapper = prepForJsonOrYamlMapping(newObjectMapper(YAMLMapper.builder()));
+  private static final ObjectMapper cborObjectMapper = prepForJsonOrYamlMapping(newObjectMapper(CBORMapper.builder()));
+  private static final ObjectMapper smileObjectMapper = prepForJsonOrYamlMapping(newObjectMapper(SmileMapper.builder()));
+  private static final ObjectMapper jsonPojoObjectMapper = prepForPojoMapping(newObjectMapper(JsonMapper.builder()));
+  private static final ObjectMapper yamlPojoObjectMapper = prepForPojoMapping(newObjectMapper(YAMLMapper.builder()));
+  private static final ObjectMapper cborPojoObjectMapper = prepForPojoMapping(newObjectMapper(CBORMapper.builder()));
+  private static final ObjectMapper smilePojoObjectMapper = prepForPojoMapping(newObjectMapper(SmileMapper.builder()));
+  private static final ObjectMapper jsonSelectingPojoObjectMapper = prepForFieldSelection(prepForPojoMapping(newObjectMapper(JsonMapper.builder())));
+  private static final ClassValue<PropertyModel> propertyModels = new ClassValue<>() {
+    @Override
+    protected PropertyModel computeValue(Class<?> type) {
+      return PropertyModel.of(jsonObjectMapper.getDeserializationConfig(), type);
+    }
+  };
+  private static final DeepCopier deepCopier = new DeepCopier(jsonObjectMapper, propertyModels::get);
+
   public static <T> T fromJson(String json, Class<T> type, Class<?>... subTypes) {
     return fromJson(json, Context.of(), type, subTypes);
   }
@@ -43,9 +116,7 @@ public class Mapper {
 
   public static <T> T fromJson(String json, Context context, Class<T> type, Class<?>... subTypes) {
     return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
-      mapWithJsonObjectMapper(oM -> prepForJsonOrYamlMapping(oM, ctx)
-        .readValue(json, oM.getTypeFactory().constructParametricType(type, subTypes))
-      )
+      mapWithJsonObjectMapper(ctx, oM -> readValue(oM, ctx, oM.createParser(json), type, subTypes))
     );
   }
 
@@ -59,9 +130,114 @@ public class Mapper {
 
   public static <T> T readJson(Reader reader, Context context, Class<T> type, Class<?>... subTypes) {
     return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
-      mapWithJsonObjectMapper(oM -> prepForJsonOrYamlMapping(oM, ctx)
-        .readValue(reader, oM.getTypeFactory().constructParametricType(type, subTypes))
-      )
+      mapWithJsonObjectMapper(ctx, oM -> readValue(oM, ctx, oM.createParser(reader), type, subTypes))
+    );
+  }
+
+  public static <T> T readJsonFile(Path path, Class<T> type, Class<?>... subTypes) {
+    return readJsonFile(path, Context.of(), type, subTypes);
+  }
+
+  public static <T> T readJsonFile(Path path, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return readJsonFile(path, Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  /**
+   * Read a file memory mapped, see {@link MappedFileInputStream}, meant for large documents.
+   */
+  public static <T> T readJsonFile(Path path, Context context, Class<T> type, Class<?>... subTypes) {
+    return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
+      mapWithJsonObjectMapper(ctx, oM -> readValue(oM, ctx, oM.createParser(new MappedFileInputStream(path)), type, subTypes))
+    );
+  }
+
+  public static <T> Stream<T> readJsonLines(InputStream inputStream, Class<T> type, Class<?>... subTypes) {
+    return readJsonLines(inputStream, Context.of(), false, type, subTypes);
+  }
+
+  public static <T> Stream<T> readJsonLines(InputStream inputStream, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return readJsonLines(inputStream, Context.ofPropertyIssueConsumer(propertyIssueConsumer), false, type, subTypes);
+  }
+
+  /**
+   * Read newline delimited JSON (JSON Lines), one document per line, lazily, see {@link JsonLines}.
+   * Issue property names are prefixed with the line number, starting with 1, e.g. "3.first name".
+   * With an issue consumer, a line that isn't JSON is reported as "Malformed Document" issue and skipped,
+   * without one, the stream fails on the first line with issues. Lines containing null are skipped.
+   *
+   * @param inputStream to read, closed with the stream
+   * @param context issue consumer, which needs to be thread safe when decoding in parallel, e.g. ConcurrentPropertyIssues
+   * @param parallel true to decode lines in parallel, the stream stays in line order
+   * @param type type of each line
+   * @return values in line order
+   */
+  public static <T> Stream<T> readJsonLines(InputStream inputStream, Context context, boolean parallel, Class<T> type, Class<?>... subTypes) {
+    ObjectMapper oM = jsonObjectMapperFor(context);
+    Stream<JsonLines.Line> lines = JsonLines.split(inputStream);
+    return (parallel ? lines.parallel() : lines)
+      .map(line -> Mapper.<T>readJsonLine(oM, context, line, type, subTypes))
+      .filter(Objects::nonNull);
+  }
+
+  /**
+   * Write newline delimited JSON (JSON Lines), one document per line, each followed by a line break.
+   *
+   * @param outputStream to write to, written as UTF-8 and closed afterwards
+   * @param objs to write, consumed in order
+   */
+  public static <T> void writeJsonLines(OutputStream outputStream, Stream<T> objs) {
+    mapWithJsonPojoObjectMapper(oM -> {
+      ObjectWriter writer = oM.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+      try (JsonGenerator gen = oM.createGenerator(outputStream)) {
+        gen.setRootValueSeparator(null);
+        for (Iterator<T> it = objs.iterator(); it.hasNext(); ) {
+          writer.writeValue(gen, it.next());
+          gen.writeRaw('\n');
+        }
+      }
+      return null;
+    });
+  }
+
+  public static <T> Spliterator<T> splitJsonArray(byte[] json, Class<T> type, Class<?>... subTypes) {
+    return splitJsonArray(json, Context.of(), type, subTypes);
+  }
+
+  public static <T> Spliterator<T> splitJsonArray(byte[] json, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return splitJsonArray(json, Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  /**
+   * Split a top level JSON array, so its elements can be bound in parallel, see {@link JsonArraySpliterator}.
+   * Use it with StreamSupport.stream(spliterator, true). Elements are bound when the spliterator advances.
+   * Issue property names are prefixed with the element index, e.g. "3.first name".
+   * Without an issue consumer the stream fails on the first element with issues.
+   *
+   * @param json UTF-8 encoded JSON array
+   * @param context issue consumer, which needs to be thread safe when used in parallel, e.g. ConcurrentPropertyIssues
+   * @param type type of each element
+   * @return ordered elements
+   */
+  public static <T> Spliterator<T> splitJsonArray(byte[] json, Context context, Class<T> type, Class<?>... subTypes) {
+    ObjectMapper oM = jsonObjectMapperFor(context);
+    return JsonArraySpliterator.of(json, (index, element) -> readJsonArrayElement(oM, context, index, o -> o.createParser(element), type, subTypes));
+  }
+
+  public static <T> Spliterator<T> splitJsonArrayFile(Path path, Class<T> type, Class<?>... subTypes) {
+    return splitJsonArrayFile(path, Context.of(), type, subTypes);
+  }
+
+  public static <T> Spliterator<T> splitJsonArrayFile(Path path, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return splitJsonArrayFile(path, Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  /**
+   * Split a top level JSON array of a memory mapped file, see {@link #splitJsonArray(byte[], Context, Class, Class[])}.
+   */
+  public static <T> Spliterator<T> splitJsonArrayFile(Path path, Context context, Class<T> type, Class<?>... subTypes) {
+    ObjectMapper oM = jsonObjectMapperFor(context);
+    return mapWithObjectMapper(() -> oM, o ->
+      JsonArraySpliterator.of(path, (index, element) -> readJsonArrayElement(o, context, index, m -> m.createParser(element), type, subTypes))
     );
   }
 
@@ -75,9 +251,7 @@ public class Mapper {
 
   public static <T> T fromYaml(String yaml, Context context, Class<T> type, Class<?>... subTypes) {
     return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
-      mapWithYamlObjectMapper(oM -> prepForJsonOrYamlMapping(oM, ctx)
-        .readValue(yaml, oM.getTypeFactory().constructParametricType(type, subTypes))
-      )
+      mapWithYamlObjectMapper(ctx, oM -> readValue(oM, ctx, oM.createParser(yaml), type, subTypes))
     );
   }
 
@@ -91,12 +265,180 @@ public class Mapper {
 
   public static <T> T readYaml(Reader reader, Context context, Class<T> type, Class<?>... subTypes) {
     return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
-      mapWithYamlObjectMapper(oM -> prepForJsonOrYamlMapping(oM, ctx)
-        .readValue(reader, oM.getTypeFactory().constructParametricType(type, subTypes))
-      )
+      mapWithYamlObjectMapper(ctx, oM -> readValue(oM, ctx, oM.createParser(reader), type, subTypes))
+    );
+  }
+
+  public static <T> T readYamlFile(Path path, Class<T> type, Class<?>... subTypes) {
+    return readYamlFile(path, Context.of(), type, subTypes);
+  }
+
+  public static <T> T readYamlFile(Path path, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return readYamlFile(path, Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  /**
+   * Read a file memory mapped, see {@link MappedFileInputStream}, meant for large documents.
+   */
+  public static <T> T readYamlFile(Path path, Context context, Class<T> type, Class<?>... subTypes) {
+    return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
+      mapWithYamlObjectMapper(ctx, oM -> readValue(oM, ctx, oM.createParser(new MappedFileInputStream(path)), type, subTypes))
+    );
+  }
+
+  public static <T> Batch<T> fromJsonBatch(List<byte[]> jsons, Class<T> type, Context context) {
+    return fromJsonBatch(jsons, type, context, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Map many documents in parallel, e.g. messages from a queue, sharing one configured object mapper.
+   * Issues are collected per document, the issue consumer of the context isn't used.
+   * A document that can't be read at all, e.g. because it's no JSON, gets a null value and a "Malformed Document" issue.
+   *
+   * @param jsons UTF-8 encoded JSON documents
+   * @param type type to map to
+   * @param context instantiators and projection to apply
+   * @param executor to map on, e.g. ForkJoinPool.commonPool() or Executors.newVirtualThreadPerTaskExecutor()
+   * @return values and issues in input order, with throughput
+   */
+  public static <T> Batch<T> fromJsonBatch(List<byte[]> jsons, Class<T> type, Context context, Executor executor) {
+    ObjectMapper oM = jsonObjectMapperFor(context);
+    long size = jsons.stream().mapToLong(json -> json.length).sum();
+    return mapBatch(new ArrayList<>(jsons), size, context, executor, (json, ctx) ->
+      mapWithObjectMapper(() -> oM, o -> readValue(o, ctx, o.createParser(json), type))
+    );
+  }
+
+  public static <T> Batch<T> fromMapBatch(Collection<? extends Map<String, ?>> maps, Class<T> type, Context context) {
+    return fromMapBatch(maps, type, context, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Map many Maps in parallel, see {@link #fromJsonBatch(List, Class, Context, Executor)}.
+   */
+  public static <T> Batch<T> fromMapBatch(Collection<? extends Map<String, ?>> maps, Class<T> type, Context context, Executor executor) {
+    ObjectMapper oM = yamlObjectMapperFor(context);
+    return mapBatch(new ArrayList<>(maps), -1, context, executor, (map, ctx) ->
+      mapWithObjectMapper(() -> oM, o -> {
+        TokenBuffer buffer = new TokenBuffer(o, false);
+        o.writeValue(buffer, map);
+        return readValue(o, ctx, buffer.asParser(), "Map", type);
+      })
+    );
+  }
+
+  public static <T> T fromCbor(byte[] cbor, Class<T> type, Class<?>... subTypes) {
+    return fromCbor(cbor, Context.of(), type, subTypes);
+  }
+
+  public static <T> T fromCbor(byte[] cbor, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return fromCbor(cbor, Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  public static <T> T fromCbor(byte[] cbor, Context context, Class<T> type, Class<?>... subTypes) {
+    return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
+      mapWithCborObjectMapper(ctx, oM -> readValue(oM, ctx, oM.createParser(cbor), type, subTypes))
     );
   }
 
+  public static <T> T readCbor(InputStream inputStream, Class<T> type, Class<?>... subTypes) {
+    return readCbor(inputStream, Context.of(), type, subTypes);
+  }
+
+  public static <T> T readCbor(InputStream inputStream, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return readCbor(inputStream, Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  public static <T> T readCbor(InputStream inputStream, Context context, Class<T> type, Class<?>... subTypes) {
+    return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
+      mapWithCborObjectMapper(ctx, oM -> readValue(oM, ctx, oM.createParser(inputStream), type, subTypes))
+    );
+  }
+
+  public static <T> T fromSmile(byte[] smile, Class<T> type, Class<?>... subTypes) {
+    return fromSmile(smile, Context.of(), type, subTypes);
+  }
+
+  public static <T> T fromSmile(byte[] smile, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return fromSmile(smile, Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  public static <T> T fromSmile(byte[] smile, Context context, Class<T> type, Class<?>... subTypes) {
+    return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
+      mapWithSmileObjectMapper(ctx, oM -> readValue(oM, ctx, new ArrayIndexTrackingParser(oM.createParser(smile)), type, subTypes))
+    );
+  }
+
+  public static <T> T readSmile(InputStream inputStream, Class<T> type, Class<?>... subTypes) {
+    return readSmile(inputStream, Context.of(), type, subTypes);
+  }
+
+  public static <T> T readSmile(InputStream inputStream, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return readSmile(inputStream, Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  public static <T> T readSmile(InputStream inputStream, Context context, Class<T> type, Class<?>... subTypes) {
+    return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
+      mapWithSmileObjectMapper(ctx, oM -> readValue(oM, ctx, new ArrayIndexTrackingParser(oM.createParser(inputStream)), type, subTypes))
+    );
+  }
+
+  public static <T> AsyncReader<T> newAsyncReader(Class<T> type, Class<?>... subTypes) {
+    return newAsyncReader(Context.of(), type, subTypes);
+  }
+
+  public static <T> AsyncReader<T> newAsyncReader(Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return newAsyncReader(Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  /**
+   * Create a reader for JSON that arrives in chunks, see {@link AsyncReader}.
+   *
+   * @param context mapping context, applied once the end of input is signaled
+   * @param type type to map to
+   * @param subTypes type parameters of type
+   * @return reader to feed
+   */
+  public static <T> AsyncReader<T> newAsyncReader(Context context, Class<T> type, Class<?>... subTypes) {
+    return mapWithObjectMapper(() -> jsonObjectMapper, oM ->
+      new AsyncReader<>(oM.getFactory().createNonBlockingByteBufferParser(), context, type, subTypes)
+    );
+  }
+
+  public static <T> Flow.Processor<ByteBuffer, T> newJsonArrayDecoder(Class<T> type, Class<?>... subTypes) {
+    return newJsonArrayDecoder(Context.of(), type, subTypes);
+  }
+
+  public static <T> Flow.Processor<ByteBuffer, T> newJsonArrayDecoder(Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    return newJsonArrayDecoder(Context.ofPropertyIssueConsumer(propertyIssueConsumer), type, subTypes);
+  }
+
+  /**
+   * Create a processor that decodes a JSON array, published in chunks, into its elements, see {@link JsonArrayDecoder}.
+   * Demand is honoured, chunks are requested one at a time and only while elements are demanded.
+   * Issue property names are prefixed with the element index, e.g. "3.first name".
+   * Without an issue consumer the first element with issues ends the flow with a MappingException.
+   *
+   * @param context mapping context, its issue consumer is called by the thread publishing chunks
+   * @param type type of each element
+   * @return processor for a single subscriber
+   */
+  public static <T> Flow.Processor<ByteBuffer, T> newJsonArrayDecoder(Context context, Class<T> type, Class<?>... subTypes) {
+    ObjectMapper oM = jsonObjectMapperFor(context);
+    return mapWithObjectMapper(() -> oM, o -> new JsonArrayDecoder<>(o.getFactory().createNonBlockingByteBufferParser(), (index, element) ->
+      readJsonArrayElement(o, context, index, m -> element.asParser(m), type, subTypes)
+    ));
+  }
+
+  /**
+   * Create a processor that encodes elements into a JSON array, published in chunks, see {@link JsonArrayEncoder}.
+   *
+   * @return processor for a single subscriber
+   */
+  public static <T> Flow.Processor<T, ByteBuffer> newJsonArrayEncoder() {
+    return new JsonArrayEncoder<T>(obj -> serializeWith(jsonPojoObjectMapper, obj, oM -> oM.writeValueAsBytes(obj)));
+  }
+
   public static <T> T fromMap(Map<String, ?> map, Class<T> type, Class<?>... subTypes) {
     return fromMap(map, Context.of(), type, subTypes);
   }
@@ -107,36 +449,203 @@ public class Mapper {
 
   public static <T> T fromMap(Map<String, ?> map, Context context, Class<T> type, Class<?>... subTypes) {
     return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
-      mapWithYamlObjectMapper(oM -> prepForJsonOrYamlMapping(oM, ctx)
-        .convertValue(map, oM.getTypeFactory().constructParametricType(type, subTypes))
-      )
+      mapWithYamlObjectMapper(ctx, oM -> {
+        TokenBuffer buffer = new TokenBuffer(oM, false);
+        oM.writeValue(buffer, map);
+        return readValue(oM, ctx, buffer.asParser(), "Map", type, subTypes);
+      })
     );
   }
 
   public static <T> String toJson(T obj) {
-    return mapWithJsonObjectMapper(oM -> prepForPojoMapping(oM).writeValueAsString(obj));
+    return serializeWith(jsonPojoObjectMapper, obj, oM -> oM.writeValueAsString(obj));
   }
 
   public static <T> void writeJson(Writer writer, T obj) {
-    mapWithJsonObjectMapper(oM -> { prepForPojoMapping(oM).writeValue(writer, obj); return null; });
+    serializeWith(jsonPojoObjectMapper, obj, oM -> { oM.writeValue(writer, obj); return null; });
+  }
+
+  /**
+   * Write only the selected properties, see {@link FieldSelectionFilter}.
+   *
+   * @param obj object to write
+   * @param fieldSelection properties to write, e.g. FieldSelection.of("a,b.c"), parse once and reuse
+   * @return JSON
+   */
+  public static <T> String toJson(T obj, FieldSelection fieldSelection) {
+    return serializeWith(jsonSelectingPojoObjectMapper, obj, oM ->
+      oM.writer(filterProviderOf(fieldSelection)).writeValueAsString(obj)
+    );
+  }
+
+  public static <T> void writeJson(Writer writer, T obj, FieldSelection fieldSelection) {
+    serializeWith(jsonSelectingPojoObjectMapper, obj, oM -> {
+      oM.writer(filterProviderOf(fieldSelection)).writeValue(writer, obj);
+      return null;
+    });
   }
 
   public static <T> String toYaml(T obj) {
-    return mapWithYamlObjectMapper(oM -> prepForPojoMapping(oM).writeValueAsString(obj));
+    return serializeWith(yamlPojoObjectMapper, obj, oM -> oM.writeValueAsString(obj));
   }
 
   public static <T> void writeYaml(Writer writer, T obj) {
-    mapWithYamlObjectMapper(oM -> { prepForPojoMapping(oM).writeValue(writer, obj); return null; });
+    serializeWith(yamlPojoObjectMapper, obj, oM -> { oM.writeValue(writer, obj); return null; });
+  }
+
+  public static <T> byte[] toCbor(T obj) {
+    return serializeWith(cborPojoObjectMapper, obj, oM -> oM.writeValueAsBytes(obj));
+  }
+
+  public static <T> void writeCbor(OutputStream outputStream, T obj) {
+    serializeWith(cborPojoObjectMapper, obj, oM -> { oM.writeValue(outputStream, obj); return null; });
+  }
+
+  public static <T> byte[] toSmile(T obj) {
+    return serializeWith(smilePojoObjectMapper, obj, oM -> oM.writeValueAsBytes(obj));
+  }
+
+  public static <T> void writeSmile(OutputStream outputStream, T obj) {
+    serializeWith(smilePojoObjectMapper, obj, oM -> { oM.writeValue(outputStream, obj); return null; });
   }
 
   public static <T> Map<String, Object> toMap(T obj) {
-    return mapWithJsonObjectMapper(oM -> prepForPojoMapping(oM).convertValue(obj, new TypeReference<>() {}));
+    return mapWithJsonPojoObjectMapper(oM -> oM.convertValue(obj, new TypeReference<>() {}));
+  }
+
+  /**
+   * Deep copy without a serialization round trip, see {@link DeepCopier}.
+   * Not reported to listeners, it's no mapping of a document.
+   *
+   * @param obj object to copy, e.g. a PropertyBundle
+   * @return copy, with the same properties set
+   */
+  public static <T> T deepCopy(T obj) {
+    return mapWithObjectMapper(() -> jsonObjectMapper, oM -> deepCopier.copy(obj));
+  }
+
+  public static <S, T> Converter<S, T> converter(Class<S> sourceType, Class<T> targetType) {
+    return throwMappingExceptionIfIssues(pIC -> converter(sourceType, targetType, pIC));
+  }
+
+  /**
+   * Compile a reusable converter between types with matching property names, see {@link Converter}.
+   *
+   * @param sourceType type to convert from, e.g. an API DTO
+   * @param targetType type to convert to, e.g. a PropertyBundle
+   * @param propertyIssueConsumer gets properties with types that don't fit, those are skipped when converting
+   * @return converter
+   */
+  public static <S, T> Converter<S, T> converter(Class<S> sourceType, Class<T> targetType, Consumer<PropertyIssue> propertyIssueConsumer) {
+    return mapWithObjectMapper(() -> jsonObjectMapper, oM ->
+      Converter.of(propertyModels.get(sourceType), propertyModels.get(targetType), propertyIssueConsumer)
+    );
+  }
+
+  /**
+   * Compute the RFC 7386 - JSON Merge Patch that turns before into after, see {@link MergePatchDiffer}.
+   *
+   * @param before object before changes, e.g. a PropertyBundle
+   * @param after object after changes, of the same type
+   * @return merge patch document
+   */
+  public static <T> String diff(T before, T after) {
+    StringWriter writer = new StringWriter();
+    writeDiff(writer, before, after);
+    return writer.toString();
+  }
+
+  public static <T> void writeDiff(Writer writer, T before, T after) {
+    mapWithJsonPojoObjectMapper(oM -> { writeDiff(oM, oM.createGenerator(writer), before, after); return null; });
+  }
+
+  public static <T> void writeDiff(OutputStream outputStream, T before, T after) {
+    mapWithJsonPojoObjectMapper(oM -> { writeDiff(oM, oM.createGenerator(outputStream), before, after); return null; });
+  }
+
+  public static void writeIssues(OutputStream outputStream, PropertyIssues propertyIssues) {
+    writeIssues(outputStream, propertyIssues, false);
+  }
+
+  /**
+   * Write issues as RFC 7807 - Problem Details JSON, see {@link ProblemDetailsWriter}.
+   *
+   * @param outputStream stream to write to, e.g. a response body, written as UTF-8
+   * @param propertyIssues issues to report
+   * @param groupedByPath true to group the issues by property instead of listing them in order
+   */
+  public static void writeIssues(OutputStream outputStream, PropertyIssues propertyIssues, boolean groupedByPath) {
+    serializeWith(jsonObjectMapper, propertyIssues, oM -> {
+      try (JsonGenerator gen = oM.createGenerator(outputStream)) {
+        ProblemDetailsWriter.write(propertyIssues, groupedByPath, gen);
+      }
+      return null;
+    });
+  }
+
+  public static <T> T mergePatch(T target, String patchJson) {
+    return mergePatch(target, patchJson, Context.of());
+  }
+
+  public static <T> T mergePatch(T target, String patchJson, Consumer<PropertyIssue> propertyIssueConsumer) {
+    return mergePatch(target, patchJson, Context.ofPropertyIssueConsumer(propertyIssueConsumer));
+  }
+
+  /**
+   * Apply a RFC 7386 - JSON Merge Patch in place, see {@link MergePatcher}.
+   *
+   * @param target object to patch, e.g. a PropertyBundle
+   * @param patchJson merge patch document
+   * @param context mapping context
+   * @return the patched target, or a replacement if the patch isn't a JSON object or the target can't be patched in place
+   */
+  public static <T> T mergePatch(T target, String patchJson, Context context) {
+    return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
+      mapWithJsonObjectMapper(ctx, oM -> {
+        try (JsonParser parser = oM.createParser(patchJson)) {
+          return new MergePatcher(oM, problemHandler(ctx), propertyModels::get).apply(target, parser);
+        }
+      })
+    );
+  }
+
+  /**
+   * Eagerly builds the (de)serializers of the given model classes for all formats,
+   * so that the first mapping of each class doesn't have to pay for introspection.
+   *
+   * @param types model classes to prepare
+   */
+  public static void prewarm(Class<?>... types) {
+    for (Class<?> type : types) {
+      jsonObjectMapper.readerFor(type);
+      yamlObjectMapper.readerFor(type);
+      cborObjectMapper.readerFor(type);
+      smileObjectMapper.readerFor(type);
+      jsonPojoObjectMapper.writerFor(type);
+      jsonSelectingPojoObjectMapper.writerFor(type);
+      yamlPojoObjectMapper.writerFor(type);
+      cborPojoObjectMapper.writerFor(type);
+      smilePojoObjectMapper.writerFor(type);
+      propertyModels.get(type);
+    }
+  }
+
+  /**
+   * @return shared buffer pool, e.g. to check hits and misses
+   */
+  public static BoundedBufferRecyclerPool getBufferPool() {
+    return bufferPool;
   }
 
   @Builder(toBuilder = true)
   public static class Context {
     private final Consumer<PropertyIssue> propertyIssueConsumer;
     private final List<Instantiator> instantiators;
+    /**
+     * Property paths to map, e.g. "objectToPojo.stringToUUID", everything else is skipped and stays unassigned.
+     * Paths use the same names as PropertyIssues, see {@link PropertyPathFilteringParser}.
+     */
+    private final Set<String> projection;
 
     public static Context of() {
       return builder().build();
@@ -150,11 +659,109 @@ public class Mapper {
       return builder().instantiators(Arrays.asList(instantiators)).build();
     }
 
+    public static Context ofProjection(String... propertyPaths) {
+      return builder().projection(Set.of(propertyPaths)).build();
+    }
+
     public Context withPropertyIssueConsumer(Consumer<PropertyIssue> pIC) {
       return toBuilder().propertyIssueConsumer(pIC).build();
     }
   }
 
+  /**
+   * Parses JSON fed in chunks, e.g. ByteBuffers from a NIO channel, without ever blocking a thread.
+   * Each chunk is tokenized as soon as it is fed, but binding can't stop halfway, so the tokens of the whole document
+   * are buffered and bound to the type once the end of input is signaled. Memory grows with the body, for large
+   * JSON arrays see {@link #newJsonArrayDecoder(Class, Class[])}, which binds each element as soon as it arrived.
+   * The parser's buffers go back to the pool once the reader ended, failed or was closed, close readers that are abandoned.
+   * Not thread safe, meant to be fed by one event loop at a time.
+   */
+  public static class AsyncReader<T> implements AutoCloseable {
+    private final JsonParser parser;
+    private final TokenBuffer tokens;
+    private final Context context;
+    private final Class<T> type;
+    private final Class<?>[] subTypes;
+    private long size = 0;
+    private boolean closed = false;
+
+    private AsyncReader(JsonParser parser, Context context, Class<T> type, Class<?>... subTypes) {
+      this.parser = parser;
+      this.tokens = new TokenBuffer(parser);
+      this.context = context;
+      this.type = type;
+      this.subTypes = subTypes;
+    }
+
+    /**
+     * Parse a chunk, it is fully consumed afterwards and can be reused.
+     *
+     * @param chunk next part of the JSON document
+     */
+    public void feed(ByteBuffer chunk) {
+      ensureOpen();
+      size += chunk.remaining();
+      try {
+        mapWithObjectMapper(() -> jsonObjectMapper, oM -> {
+          ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(chunk);
+          bufferAvailableTokens();
+          return null;
+        });
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+    }
+
+    /**
+     * Signal the end of input and map what was fed.
+     *
+     * @return mapped object
+     */
+    public T end() {
+      ensureOpen();
+      return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
+        mapWithJsonObjectMapper(ctx, oM -> {
+          try {
+            ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+            bufferAvailableTokens();
+          } finally {
+            close();
+          }
+          return readValue(oM, ctx, tokens.asParser(oM), oM.getFactory().getFormatName(), size, type, subTypes);
+        })
+      );
+    }
+
+    /**
+     * Release the parser without mapping, e.g. when the connection dropped. Does nothing once ended or closed.
+     */
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        parser.close();
+      } catch (IOException e) {
+        // nothing left to read, nothing to report to
+      }
+    }
+
+    private void ensureOpen() {
+      if (closed) {
+        throw new MappingException(new IllegalStateException("AsyncReader already ended or closed"));
+      }
+    }
+
+    private void bufferAvailableTokens() throws IOException {
+      for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.NOT_AVAILABLE; token = parser.nextToken()) {
+        tokens.copyCurrentEvent(parser);
+      }
+    }
+  }
+
   public static class Instantiator {
     private final Class<?> target;
     private final Function<Map<String, Object>, ?> constructor;
@@ -181,22 +788,76 @@ public class Mapper {
     }
   }
 
+  /**
+   * Messages are rendered on the first {@link #getMessage()} call, routinely rejected input stays cheap.
+   * Stack traces can be skipped altogether, see {@link #stackless(boolean)}.
+   * Exceptions thrown for issues keep their former shape, an IllegalStateException cause with the issues as message,
+   * the cause is only created once it is asked for.
+   */
   public static class MappingException extends RuntimeException {
+    private static volatile boolean stackless = false;
+
+    private final PropertyIssues propertyIssues;
+    private String message;
+    private Throwable issuesCause;
+
     public MappingException(Throwable cause) {
-      super(cause);
+      super(null, cause, true, !stackless);
+      this.propertyIssues = PropertyIssues.of();
+    }
+
+    public MappingException(PropertyIssues propertyIssues) {
+      super(null, null, true, !stackless);
+      this.propertyIssues = propertyIssues;
+    }
+
+    /**
+     * Applies to all MappingExceptions created afterwards, process wide, not only to the caller's mappings.
+     * Meant to be set once on startup, e.g. by services where invalid input is routine.
+     *
+     * @param enabled true to create MappingExceptions without stack traces from now on
+     */
+    public static void stackless(boolean enabled) {
+      stackless = enabled;
     }
-  }
 
-  private static ObjectMapper prepForJsonOrYamlMapping(ObjectMapper oM, Context ctx) {
-    if (nonNull(ctx.instantiators)) {
-      oM.registerModule(Instantiator.toModule(ctx.instantiators));
+    /**
+     * @return issues this exception was thrown for, empty if it was thrown for a cause
+     */
+    public PropertyIssues getPropertyIssues() {
+      return propertyIssues;
     }
+
+    @Override
+    public Throwable getCause() {
+      Throwable cause = super.getCause();
+      if (nonNull(cause) || propertyIssues.isEmpty()) {
+        return cause;
+      }
+      if (isNull(issuesCause)) {
+        Throwable created = new IllegalStateException(propertyIssues.toString());
+        created.setStackTrace(getStackTrace());
+        issuesCause = created;
+      }
+      return issuesCause;
+    }
+
+    @Override
+    public String getMessage() {
+      if (isNull(message)) {
+        Throwable cause = super.getCause();
+        message = nonNull(cause) ? cause.toString() : IllegalStateException.class.getName() + ": " + propertyIssues;
+      }
+      return message;
+    }
+  }
+
+  private static ObjectMapper prepForJsonOrYamlMapping(ObjectMapper oM) {
     return oM
       .disable(
         DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE,
         DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES // ignore unknown fields
-      )
-      .addHandler(new PropertyIssueCollectingDeserializationProblemHandler(ctx.propertyIssueConsumer));
+      );
   }
 
   private static ObjectMapper prepForPojoMapping(ObjectMapper oM) {
@@ -208,31 +869,223 @@ public class Mapper {
       ));
   }
 
-  private static <T> T mapWithJsonObjectMapper(ThrowingFunction<ObjectMapper, T, IOException> cb) {
-    var m = JsonMapper.builder()
-      .addModule(new JavaTimeModule())
-      .annotationIntrospector(new WithUnconventionalNameAnnotationIntrospector())
-      .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
-      .enable(MapperFeature.USE_STD_BEAN_NAMING)                                 // circumventJacksonBeanNamingConventionProblems
-      .propertyNamingStrategy(new FirstCharCaseIgnoredPropertyNamingStrategy())  // circumventJacksonBeanNamingConventionProblems
-      .build();
+  private static ObjectReader readerFor(ObjectMapper oM, Context ctx, Class<?> type, Class<?>... subTypes) {
+    return oM
+      .readerFor(oM.getTypeFactory().constructParametricType(type, subTypes))
+      .withHandler(problemHandler(ctx));
+  }
+
+  private static <T> T readValue(ObjectMapper oM, Context ctx, JsonParser parser, Class<?> type, Class<?>... subTypes) throws IOException {
+    return readValue(oM, ctx, parser, oM.getFactory().getFormatName(), type, subTypes);
+  }
+
+  private static <T> T readValue(ObjectMapper oM, Context ctx, JsonParser parser, String format, Class<?> type, Class<?>... subTypes) throws IOException {
+    return readValue(oM, ctx, parser, format, -1, type, subTypes);
+  }
+
+  /**
+   * @param inputSize bytes or chars the parser's tokens were read from, -1 to take the parser's location at the end
+   */
+  private static <T> T readValue(ObjectMapper oM, Context ctx, JsonParser parser, String format, long inputSize, Class<?> type, Class<?>... subTypes) throws IOException {
+    Listener listener = Listeners.current();
+    MappingEvent event = MappingEvent.recording() ? new MappingEvent() : null;
+    if (listener == Listener.NOOP && isNull(event)) {
+      return readValueMeasuringSize(oM, ctx, parser, null, type, subTypes);
+    }
+
+    Map<String, Integer> issueCounts = new HashMap<>();
+    Context countingCtx = ctx.withPropertyIssueConsumer(propertyIssue -> {
+      issueCounts.merge(propertyIssue.getIssue().getCode(), 1, Integer::sum);
+      PropertyIssueEvent.record(type, propertyIssue);
+      ctx.propertyIssueConsumer.accept(propertyIssue);
+    });
+    long[] size = { inputSize };
+    listener.onStart(Operation.MAPPING, type, format);
+    if (nonNull(event)) {
+      event.begin();
+    }
+    long start = System.nanoTime();
     try {
-      return cb.apply(m);
-    } catch (Exception e) {
-      throw new MappingException(e);
+      return readValueMeasuringSize(oM, countingCtx, parser, size, type, subTypes);
+    } finally {
+      long duration = System.nanoTime() - start;
+      if (nonNull(event)) {
+        event.record(type, format, size[0], issueCounts.values().stream().mapToInt(Integer::intValue).sum());
+      }
+      listener.onEnd(Observation.of(Operation.MAPPING, type, format, size[0], duration, issueCounts));
+    }
+  }
+
+  private static <T> T readValueMeasuringSize(ObjectMapper oM, Context ctx, JsonParser parser, long[] size, Class<?> type, Class<?>... subTypes) throws IOException {
+    try (JsonParser p = isNull(ctx.projection) ? parser : new PropertyPathFilteringParser(parser, ctx.projection)) {
+      T value = readerFor(oM, ctx, type, subTypes).readValue(p);
+      if (size != null && size[0] < 0) {
+        JsonLocation location = p.currentLocation();
+        size[0] = Math.max(location.getByteOffset(), location.getCharOffset());
+      }
+      return value;
+    }
+  }
+
+  private static <T> T serializeWith(ObjectMapper oM, Object obj, ThrowingFunction<ObjectMapper, T, IOException> cb) {
+    Listener listener = Listeners.current();
+    SerializationEvent event = SerializationEvent.recording() ? new SerializationEvent() : null;
+    if (listener == Listener.NOOP && isNull(event)) {
+      return mapWithObjectMapper(() -> oM, cb);
+    }
+
+    Class<?> type = isNull(obj) ? Void.class : obj.getClass();
+    String format = oM.getFactory().getFormatName();
+    long size = -1;
+    listener.onStart(Operation.SERIALIZATION, type, format);
+    if (nonNull(event)) {
+      event.begin();
+    }
+    long start = System.nanoTime();
+    try {
+      T result = mapWithObjectMapper(() -> oM, cb);
+      if (result instanceof String string) {
+        size = string.length();
+      } else if (result instanceof byte[] bytes) {
+        size = bytes.length;
+      }
+      return result;
+    } finally {
+      long duration = System.nanoTime() - start;
+      if (nonNull(event)) {
+        event.record(type, format, size);
+      }
+      listener.onEnd(Observation.of(Operation.SERIALIZATION, type, format, size, duration, Map.of()));
+    }
+  }
+
+  private static void writeDiff(ObjectMapper oM, JsonGenerator gen, Object before, Object after) throws IOException {
+    try (gen) {
+      new MergePatchDiffer(oM, propertyModels::get).write(before, after, gen);
     }
   }
 
-  private static <T> T mapWithYamlObjectMapper(ThrowingFunction<ObjectMapper, T, IOException> cb) {
-    var m = YAMLMapper.builder()
+  private static DeserializationProblemHandler problemHandler(Context ctx) {
+    return new PropertyIssueCollectingDeserializationProblemHandler(ctx.propertyIssueConsumer);
+  }
+
+  private static <B extends MapperBuilder<?, B>> ObjectMapper newObjectMapper(B builder) {
+    ObjectMapper oM = builder
       .addModule(new JavaTimeModule())
       .annotationIntrospector(new WithUnconventionalNameAnnotationIntrospector())
       .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
       .enable(MapperFeature.USE_STD_BEAN_NAMING)                                 // circumventJacksonBeanNamingConventionProblems
       .propertyNamingStrategy(new FirstCharCaseIgnoredPropertyNamingStrategy())  // circumventJacksonBeanNamingConventionProblems
       .build();
+    oM.getFactory().setRecyclerPool(bufferPool);
+    return oM;
+  }
+
+  private static <T> T mapWithJsonObjectMapper(Context ctx, ThrowingFunction<ObjectMapper, T, IOException> cb) {
+    return mapWithObjectMapper(() -> jsonObjectMapperFor(ctx), cb);
+  }
+
+  private static <T> T mapWithYamlObjectMapper(Context ctx, ThrowingFunction<ObjectMapper, T, IOException> cb) {
+    return mapWithObjectMapper(() -> yamlObjectMapperFor(ctx), cb);
+  }
+
+  private static ObjectMapper jsonObjectMapperFor(Context ctx) {
+    return isNull(ctx.instantiators) ?
+      jsonObjectMapper :
+      prepForJsonOrYamlMapping(newObjectMapper(JsonMapper.builder())).registerModule(Instantiator.toModule(ctx.instantiators));
+  }
+
+  private static ObjectMapper yamlObjectMapperFor(Context ctx) {
+    return isNull(ctx.instantiators) ?
+      yamlObjectMapper :
+      prepForJsonOrYamlMapping(newObjectMapper(YAMLMapper.builder())).registerModule(Instantiator.toModule(ctx.instantiators));
+  }
+
+  private static <T> T readJsonLine(ObjectMapper oM, Context context, JsonLines.Line line, Class<?> type, Class<?>... subTypes) {
+    return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx -> {
+      String lineNumber = String.valueOf(line.getNumber());
+      try {
+        return readWithPropertyNamePrefix(oM, ctx, lineNumber + ".", o -> o.createParser(line.getBytes()), type, subTypes);
+      } catch (MappingException e) {
+        ctx.propertyIssueConsumer.accept(PropertyIssue.of(lineNumber, MALFORMED_DOCUMENT, e.getMessage()));
+        return null;
+      }
+    });
+  }
+
+  private static <T> T readJsonArrayElement(ObjectMapper oM, Context context, long index, ThrowingFunction<ObjectMapper, JsonParser, IOException> parserOf, Class<?> type, Class<?>... subTypes) {
+    return throwMappingExceptionIfIssuesAndNoIssueConsumer(context, ctx ->
+      readWithPropertyNamePrefix(oM, ctx, index + ".", parserOf, type, subTypes)
+    );
+  }
+
+  private static <T> T readWithPropertyNamePrefix(ObjectMapper oM, Context ctx, String prefix, ThrowingFunction<ObjectMapper, JsonParser, IOException> parserOf, Class<?> type, Class<?>... subTypes) {
+    Consumer<PropertyIssue> propertyIssueConsumer = ctx.propertyIssueConsumer;
+    return mapWithObjectMapper(() -> oM, o -> readValue(o,
+      ctx.withPropertyIssueConsumer(propertyIssue -> propertyIssueConsumer.accept(propertyIssue.withPropertyNamePrefix(prefix))),
+      parserOf.apply(o), type, subTypes
+    ));
+  }
+
+  /**
+   * Maps documents in about four chunks per core, each chunk writes to its own slots, so results stay in input order.
+   */
+  @SuppressWarnings("unchecked")
+  private static <D, T> Batch<T> mapBatch(List<D> documents, long size, Context context, Executor executor, BiFunction<D, Context, T> mapping) {
+    long start = System.nanoTime();
+    int count = documents.size();
+    Object[] values = new Object[count];
+    PropertyIssues[] propertyIssues = new PropertyIssues[count];
+    int chunkSize = Math.max(1, (count + 4 * Runtime.getRuntime().availableProcessors() - 1) / (4 * Runtime.getRuntime().availableProcessors()));
+
+    List<CompletableFuture<Void>> chunks = new ArrayList<>();
+    for (int from = 0; from < count; from += chunkSize) {
+      int chunkFrom = from;
+      int chunkTo = Math.min(count, from + chunkSize);
+      chunks.add(CompletableFuture.runAsync(() -> {
+        for (int i = chunkFrom; i < chunkTo; i++) {
+          PropertyIssues documentIssues = PropertyIssues.of();
+          propertyIssues[i] = documentIssues;
+          try {
+            values[i] = mapping.apply(documents.get(i), context.withPropertyIssueConsumer(documentIssues::add));
+          } catch (MappingException e) {
+            documentIssues.add(PropertyIssue.of("", MALFORMED_DOCUMENT, e.getMessage()));
+          }
+        }
+      }, executor));
+    }
+
+    try {
+      CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+    return Batch.of((List<T>) Arrays.asList(values), Arrays.asList(propertyIssues), size, System.nanoTime() - start);
+  }
+
+  private static <T> T mapWithCborObjectMapper(Context ctx, ThrowingFunction<ObjectMapper, T, IOException> cb) {
+    return mapWithObjectMapper(isNull(ctx.instantiators) ?
+      () -> cborObjectMapper :
+      () -> prepForJsonOrYamlMapping(newObjectMapper(CBORMapper.builder())).registerModule(Instantiator.toModule(ctx.instantiators)),
+      cb
+    );
+  }
+
+  private static <T> T mapWithSmileObjectMapper(Context ctx, ThrowingFunction<ObjectMapper, T, IOException> cb) {
+    return mapWithObjectMapper(isNull(ctx.instantiators) ?
+      () -> smileObjectMapper :
+      () -> prepForJsonOrYamlMapping(newObjectMapper(SmileMapper.builder())).registerModule(Instantiator.toModule(ctx.instantiators)),
+      cb
+    );
+  }
+
+  private static <T> T mapWithJsonPojoObjectMapper(ThrowingFunction<ObjectMapper, T, IOException> cb) {
+    return mapWithObjectMapper(() -> jsonPojoObjectMapper, cb);
+  }
+
+  private static <T> T mapWithObjectMapper(Supplier<ObjectMapper> oMSupplier, ThrowingFunction<ObjectMapper, T, IOException> cb) {
     try {
-      return cb.apply(m);
+      return cb.apply(oMSupplier.get());
     } catch (Exception e) {
       throw new MappingException(e);
     }
@@ -248,7 +1101,7 @@ public class Mapper {
     PropertyIssues propertyIssues = PropertyIssues.of();
     T t = cb.apply(propertyIssues::add);
     if (!propertyIssues.isEmpty())
-      throw new MappingException(new IllegalStateException(propertyIssues.toString()));
+      throw new MappingException(propertyIssues);
     return t;
   }
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package net.io_0.maja.mapping;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import net.io_0.maja.PropertyIssue;
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.mapping.Mapper.MappingException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Caches mapping results of byte-identical documents, keyed by target type and content hash.
+ * The least recently used results are evicted once their estimated size exceeds the byte budget,
+ * the size of a result is estimated as the size of its document.
+ * Issues found while mapping are cached as well and reported again on every hit.
+ * Hits return copies, unless the cache is created for shared instances, which callers must not modify.
+ */
+public class MappingCache {
+  private final long byteBudget;
+  private final boolean shared;
+  private final Lock lock = new ReentrantLock();
+  private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long retainedSize = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  private MappingCache(long byteBudget, boolean shared) {
+    this.byteBudget = byteBudget;
+    this.shared = shared;
+  }
+
+  /**
+   * @param byteBudget approximate size in bytes cached results may retain
+   * @return cache returning copies
+   */
+  public static MappingCache of(long byteBudget) {
+    return new MappingCache(byteBudget, false);
+  }
+
+  /**
+   * @param byteBudget approximate size in bytes cached results may retain
+   * @return cache returning the cached instances themselves, they must be treated as read-only
+   */
+  public static MappingCache ofSharedInstances(long byteBudget) {
+    return new MappingCache(byteBudget, true);
+  }
+
+  public <T> T fromJson(String json, Class<T> type, Class<?>... subTypes) {
+    return fromJson(json, null, type, subTypes);
+  }
+
+  public <T> T fromJson(String json, Consumer<PropertyIssue> propertyIssueConsumer, Class<T> type, Class<?>... subTypes) {
+    if (isNull(json)) {
+      throw new MappingException(new IllegalArgumentException("Can't map null"));
+    }
+    byte[] content = json.getBytes(StandardCharsets.UTF_8);
+    Key key = new Key(type, List.of(subTypes), hash(content));
+
+    Entry entry = get(key);
+    if (isNull(entry)) {
+      PropertyIssues propertyIssues = PropertyIssues.of();
+      entry = new Entry(Mapper.fromJson(json, propertyIssues::add, type, subTypes), propertyIssues, content.length);
+      put(key, entry);
+    }
+
+    if (isNull(propertyIssueConsumer) && !entry.propertyIssues.isEmpty()) {
+      throw new MappingException((PropertyIssues) entry.propertyIssues.clone());
+    }
+    if (!isNull(propertyIssueConsumer)) {
+      entry.propertyIssues.forEach(propertyIssueConsumer);
+    }
+    return shared ? type.cast(entry.value) : Mapper.deepCopy(type.cast(entry.value));
+  }
+
+  public long getHits() {
+    return withLock(() -> hits);
+  }
+
+  public long getMisses() {
+    return withLock(() -> misses);
+  }
+
+  public long getEvictions() {
+    return withLock(() -> evictions);
+  }
+
+  /**
+   * @return estimated size in bytes of all cached results
+   */
+  public long getRetainedSize() {
+    return withLock(() -> retainedSize);
+  }
+
+  private Entry get(Key key) {
+    return withLock(() -> {
+      Entry entry = entries.get(key);
+      if (isNull(entry)) {
+        misses++;
+      } else {
+        hits++;
+      }
+      return entry;
+    });
+  }
+
+  private void put(Key key, Entry entry) {
+    withLock(() -> {
+      Entry replaced = entries.put(key, entry);
+      retainedSize += entry.size - (isNull(replaced) ? 0 : replaced.size);
+
+      Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+      while (retainedSize > byteBudget && eldest.hasNext()) {
+        retainedSize -= eldest.next().getValue().size;
+        eldest.remove();
+        evictions++;
+      }
+      return null;
+    });
+  }
+
+  private <R> R withLock(Supplier<R> cb) {
+    lock.lock();
+    try {
+      return cb.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static String hash(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @RequiredArgsConstructor
+  @EqualsAndHashCode
+  private static class Key {
+    private final Class<?> type;
+    private final List<Class<?>> subTypes;
+    private final String contentHash;
+  }
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final Object value;
+    private final PropertyIssues propertyIssues;
+    private final long size;
+  }
+}
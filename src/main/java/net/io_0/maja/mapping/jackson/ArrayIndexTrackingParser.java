@@ -0,0 +1,73 @@
+package net.io_0.maja.mapping.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadContext;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Keeps its own parsing context, for parsers that don't advance the element index of arrays, e.g. the Smile one.
+ * Without it every array element reports index 0, so PropertyIssue names and projections by index, e.g. "pojos.1.name", would be wrong.
+ */
+public class ArrayIndexTrackingParser extends JsonParserDelegate {
+  private JsonReadContext context = JsonReadContext.createRootContext(null);
+
+  public ArrayIndexTrackingParser(JsonParser parser) {
+    super(parser);
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException {
+    JsonToken token = delegate.nextToken();
+    if (isNull(token)) {
+      return null;
+    }
+
+    switch (token) {
+      case FIELD_NAME -> context.setCurrentName(delegate.currentName());
+      case START_OBJECT -> {
+        valueRead();
+        context = context.createChildObjectContext(-1, -1);
+      }
+      case START_ARRAY -> {
+        valueRead();
+        context = context.createChildArrayContext(-1, -1);
+      }
+      case END_OBJECT, END_ARRAY -> context = context.clearAndGetParent();
+      default -> valueRead();
+    }
+    return token;
+  }
+
+  @Override
+  public JsonToken nextValue() throws IOException {
+    JsonToken token = nextToken();
+    return token == JsonToken.FIELD_NAME ? nextToken() : token;
+  }
+
+  @Override
+  public JsonParser skipChildren() throws IOException {
+    JsonToken token = delegate.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      delegate.skipChildren();
+      context = context.clearAndGetParent();
+    }
+    return this;
+  }
+
+  @Override
+  public JsonStreamContext getParsingContext() {
+    return context;
+  }
+
+  private void valueRead() {
+    if (!context.inObject()) {
+      context.expectComma(); // advances the element index
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package net.io_0.maja.mapping.jackson;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Jackson recycles parser and generator buffers per thread by default, which doesn't help if every call runs on a new virtual thread.
+ * This pool shares buffers between all threads instead. It is bounded, buffers released to a full pool are left to the garbage collector,
+ * and lock-free, slots are taken and filled with compare-and-set, starting at a random slot to spread contention.
+ * Hits and misses are counted, a miss means new buffers had to be allocated.
+ */
+public class BoundedBufferRecyclerPool implements RecyclerPool<BufferRecycler> {
+  private final AtomicReferenceArray<BufferRecycler> slots;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public BoundedBufferRecyclerPool(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Buffer pool capacity must be positive, was " + capacity);
+    }
+    this.slots = new AtomicReferenceArray<>(capacity);
+  }
+
+  @Override
+  public BufferRecycler acquirePooled() {
+    int start = ThreadLocalRandom.current().nextInt(slots.length());
+    for (int i = 0; i < slots.length(); i++) {
+      int slot = (start + i) % slots.length();
+      BufferRecycler recycler = slots.get(slot);
+      if (recycler != null && slots.compareAndSet(slot, recycler, null)) {
+        hits.increment();
+        return recycler;
+      }
+    }
+    misses.increment();
+    return new BufferRecycler();
+  }
+
+  @Override
+  public void releasePooled(BufferRecycler recycler) {
+    int start = ThreadLocalRandom.current().nextInt(slots.length());
+    for (int i = 0; i < slots.length(); i++) {
+      if (slots.compareAndSet((start + i) % slots.length(), null, recycler)) {
+        return;
+      }
+    }
+  }
+
+  public int getCapacity() {
+    return slots.length();
+  }
+
+  /**
+   * @return number of acquisitions served from the pool
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return number of acquisitions that had to allocate new buffers
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,237 @@
+package net.io_0.maja.mapping.jackson;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import lombok.RequiredArgsConstructor;
+import net.io_0.maja.PropertyBundle;
+import net.io_0.maja.mapping.jackson.PropertyModel.ModelProperty;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Copies object graphs directly, without writing them to tokens and mapping those back.
+ * Beans are created via their no-args constructor and filled via setters, driven by the cached property model.
+ * Only assigned PropertyBundle properties get copied, so absent stays absent and explicit nulls stay null.
+ * Immutable values, e.g. Strings, numbers, enums, UUIDs and java.time types, are shared. Collections, Maps and arrays
+ * are copied, keeping their type where it can be created. Shared references and cycles are kept as they are.
+ * Anything else, e.g. a bean without no-args constructor, is copied via the object mapper.
+ */
+@RequiredArgsConstructor
+public class DeepCopier {
+  private static final Set<Class<?>> IMMUTABLES = Set.of(
+    String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+    Double.class, BigDecimal.class, BigInteger.class, UUID.class, URI.class, URL.class, Locale.class, Currency.class,
+    Pattern.class, Class.class
+  );
+
+  private final ObjectMapper objectMapper;
+  private final Function<Class<?>, PropertyModel> propertyModels;
+  private final ClassValue<Plan> plans = new ClassValue<>() {
+    @Override
+    protected Plan computeValue(Class<?> type) {
+      return plan(type);
+    }
+  };
+
+  /**
+   * Copy an object graph.
+   *
+   * @param obj object to copy
+   * @return deep copy, or obj itself if it is immutable
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T copy(T obj) throws IOException {
+    return (T) copyValue(obj, new IdentityHashMap<>());
+  }
+
+  private Object copyValue(Object value, Map<Object, Object> copies) throws IOException {
+    if (isNull(value)) {
+      return null;
+    }
+    Plan plan = plans.get(value.getClass());
+    if (plan.kind == Kind.IMMUTABLE) {
+      return value;
+    }
+    Object copy = copies.get(value);
+    if (nonNull(copy)) {
+      return copy;
+    }
+
+    if (plan.kind == Kind.ARRAY) {
+      return copyArray(value, copies);
+    } else if (plan.kind == Kind.COLLECTION) {
+      return copyCollection(asCollection(value), plan, copies);
+    } else if (plan.kind == Kind.MAP) {
+      return copyMap(asMap(value), plan, copies);
+    } else if (plan.kind == Kind.BEAN) {
+      return copyBean(value, plan, copies);
+    }
+    return remember(value, objectMapper.convertValue(value, value.getClass()), copies);
+  }
+
+  private Object copyArray(Object array, Map<Object, Object> copies) throws IOException {
+    int length = Array.getLength(array);
+    Class<?> componentType = array.getClass().getComponentType();
+    if (componentType.isPrimitive()) {
+      Object copy = Array.newInstance(componentType, length);
+      System.arraycopy(array, 0, copy, 0, length);
+      return remember(array, copy, copies);
+    }
+
+    Object[] copy = (Object[]) remember(array, Array.newInstance(componentType, length), copies);
+    for (int i = 0; i < length; i++) {
+      copy[i] = copyValue(Array.get(array, i), copies);
+    }
+    return copy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Collection<Object> copyCollection(Collection<Object> collection, Plan plan, Map<Object, Object> copies) throws IOException {
+    Collection<Object> copy;
+    if (collection instanceof EnumSet) {
+      return asCollection(remember(collection, ((EnumSet<?>) collection).clone(), copies));
+    } else if (collection.getClass() == TreeSet.class) {
+      copy = new TreeSet<>(((TreeSet<Object>) collection).comparator());
+    } else if (nonNull(plan.constructor)) {
+      copy = asCollection(newInstance(plan.constructor));
+    } else {
+      copy = collection instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+    }
+
+    remember(collection, copy, copies);
+    for (Object element : collection) {
+      copy.add(copyValue(element, copies));
+    }
+    return copy;
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private Map<Object, Object> copyMap(Map<Object, Object> map, Plan plan, Map<Object, Object> copies) throws IOException {
+    Map<Object, Object> copy;
+    if (map instanceof EnumMap) {
+      copy = new EnumMap((EnumMap) map);
+      remember(map, copy, copies);
+      for (Map.Entry<Object, Object> entry : copy.entrySet()) {
+        entry.setValue(copyValue(entry.getValue(), copies));
+      }
+      return copy;
+    } else if (map.getClass() == TreeMap.class) {
+      copy = new TreeMap<>(((TreeMap<Object, Object>) map).comparator());
+    } else if (nonNull(plan.constructor)) {
+      copy = asMap(newInstance(plan.constructor));
+    } else {
+      copy = new LinkedHashMap<>();
+    }
+
+    remember(map, copy, copies);
+    for (Map.Entry<Object, Object> entry : map.entrySet()) {
+      copy.put(copyValue(entry.getKey(), copies), copyValue(entry.getValue(), copies));
+    }
+    return copy;
+  }
+
+  private Object copyBean(Object bean, Plan plan, Map<Object, Object> copies) throws IOException {
+    Object copy = remember(bean, newInstance(plan.constructor), copies);
+    for (ModelProperty property : plan.properties) {
+      if (!property.isAssigned(bean)) {
+        continue;
+      }
+      if (property.isReadable() && property.isWritable()) {
+        property.set(copy, copyValue(property.get(bean), copies));
+      }
+      if (copy instanceof PropertyBundle) {
+        ((PropertyBundle) copy).markPropertySet(property.getName());
+      }
+    }
+    return copy;
+  }
+
+  private Plan plan(Class<?> type) {
+    if (type.isPrimitive() || type.isEnum() || IMMUTABLES.contains(type) || type.getPackageName().startsWith("java.time") ||
+      (nonNull(type.getSuperclass()) && type.getSuperclass().isEnum())) {
+      return new Plan(Kind.IMMUTABLE, null, List.of());
+    }
+    if (type.isArray()) {
+      return new Plan(Kind.ARRAY, null, List.of());
+    }
+    if (Collection.class.isAssignableFrom(type)) {
+      return new Plan(Kind.COLLECTION, publicConstructor(type), List.of());
+    }
+    if (Map.class.isAssignableFrom(type)) {
+      return new Plan(Kind.MAP, publicConstructor(type), List.of());
+    }
+
+    Constructor<?> constructor = Modifier.isAbstract(type.getModifiers()) ? null :
+      ClassUtil.findConstructor(type, objectMapper.getDeserializationConfig().canOverrideAccessModifiers());
+    if (nonNull(constructor) && isBean(type)) {
+      return new Plan(Kind.BEAN, constructor, propertyModels.apply(type).getProperties());
+    }
+    return new Plan(Kind.OTHER, null, List.of());
+  }
+
+  private boolean isBean(Class<?> type) {
+    try {
+      return objectMapper.getSerializerProviderInstance().findValueSerializer(type) instanceof BeanSerializerBase;
+    } catch (JsonMappingException e) {
+      return false;
+    }
+  }
+
+  private static Constructor<?> publicConstructor(Class<?> type) {
+    if (!Modifier.isPublic(type.getModifiers())) {
+      return null;
+    }
+    try {
+      return type.getConstructor();
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private static Object newInstance(Constructor<?> constructor) throws IOException {
+    try {
+      return constructor.newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IOException("Couldn't create instance of " + constructor.getDeclaringClass().getName(), e);
+    }
+  }
+
+  private static Object remember(Object original, Object copy, Map<Object, Object> copies) {
+    copies.put(original, copy);
+    return copy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Collection<Object> asCollection(Object collection) {
+    return (Collection<Object>) collection;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Object, Object> asMap(Object map) {
+    return (Map<Object, Object>) map;
+  }
+
+  private enum Kind { IMMUTABLE, ARRAY, COLLECTION, MAP, BEAN, OTHER }
+
+  @RequiredArgsConstructor
+  private static class Plan {
+    private final Kind kind;
+    private final Constructor<?> constructor;
+    private final List<ModelProperty> properties;
+  }
+}
@@ -0,0 +1,109 @@
+package net.io_0.maja.mapping.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import net.io_0.maja.mapping.FieldSelection;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Only writes the properties of a {@link FieldSelection}, for beans and Maps, arrays are transparent.
+ * Unselected properties are skipped before their values are serialized, selected ones are written by the
+ * original property writers, so PropertyBundle set-tracking still applies.
+ * Requires an object mapper prepared with {@link #prepForFieldSelection(ObjectMapper)}, it builds and caches
+ * filter-aware serializers once per class. The selection can't be part of those, it differs per write, so it is
+ * resolved per output context instead and remembered while the context stays at the same field of the same parent selection.
+ * A filter keeps that state, so it serves a single write, see {@link #filterProviderOf(FieldSelection)}.
+ * Objects written in between by serializers that bypass the filter, e.g. custom ones, aren't tracked.
+ */
+public class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+  private static final String FILTER_ID = FieldSelectionFilter.class.getName();
+  private final FieldSelection selection;
+  private JsonStreamContext[] contexts = new JsonStreamContext[8];
+  private FieldSelection[] parentSelections = new FieldSelection[8];
+  private String[] parentNames = new String[8];
+  private FieldSelection[] selections = new FieldSelection[8];
+
+  private FieldSelectionFilter(FieldSelection selection) {
+    this.selection = selection;
+  }
+
+  /**
+   * @return filters for a single write
+   */
+  public static FilterProvider filterProviderOf(FieldSelection selection) {
+    return new SimpleFilterProvider().addFilter(FILTER_ID, new FieldSelectionFilter(selection));
+  }
+
+  /**
+   * Makes the object mapper consult the field selection filter for all beans and Maps.
+   */
+  public static ObjectMapper prepForFieldSelection(ObjectMapper oM) {
+    return oM.setAnnotationIntrospector(AnnotationIntrospector.pair(
+      new NopAnnotationIntrospector() {
+        @Override
+        public Object findFilterId(Annotated annotated) {
+          return annotated instanceof AnnotatedClass ? FILTER_ID : null;
+        }
+      },
+      oM.getSerializationConfig().getAnnotationIntrospector()
+    ));
+  }
+
+  @Override
+  public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer) throws Exception {
+    FieldSelection current = selectionOf(gen.getOutputContext());
+    if (!isNull(current) && !isNull(current.select(writer.getName()))) {
+      writer.serializeAsField(pojo, gen, provider);
+    } else if (!gen.canOmitFields()) {
+      writer.serializeAsOmittedField(pojo, gen, provider);
+    }
+  }
+
+  /**
+   * Selection of an object's output context, from the selection of the closest enclosing object and its current field name,
+   * arrays are transparent. Jackson reuses contexts for sibling objects, so the context alone doesn't identify the selection,
+   * but together with both it does. The enclosing object's selection is remembered already, as its field is being written.
+   */
+  private FieldSelection selectionOf(JsonStreamContext context) {
+    JsonStreamContext parent = context.getParent();
+    while (!isNull(parent) && parent.inArray()) {
+      parent = parent.getParent();
+    }
+    if (isNull(parent) || parent.inRoot()) {
+      return selection;
+    }
+
+    int depth = context.getNestingDepth();
+    if (depth >= contexts.length) {
+      contexts = Arrays.copyOf(contexts, depth * 2);
+      parentSelections = Arrays.copyOf(parentSelections, depth * 2);
+      parentNames = Arrays.copyOf(parentNames, depth * 2);
+      selections = Arrays.copyOf(selections, depth * 2);
+    }
+
+    int parentDepth = parent.getNestingDepth();
+    FieldSelection parentSelection = contexts[parentDepth] == parent ? selections[parentDepth] : selectionOf(parent);
+    String parentName = parent.getCurrentName();
+    if (contexts[depth] != context || parentSelections[depth] != parentSelection || !Objects.equals(parentNames[depth], parentName)) {
+      contexts[depth] = context;
+      parentSelections[depth] = parentSelection;
+      parentNames[depth] = parentName;
+      selections[depth] = isNull(parentSelection) ? null : parentSelection.select(parentName);
+    }
+    return selections[depth];
+  }
+}
@@ -3,7 +3,9 @@ package net.io_0.maja.mapping.jackson;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.cfg.MapperConfig;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
-import java.util.Optional;
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.Set;
 
 import static net.io_0.maja.StringUtils.*;
 
@@ -13,6 +15,22 @@ import static net.io_0.maja.StringUtils.*;
  * It requires MapperFeature.USE_STD_BEAN_NAMING to work.
  */
 public class FirstCharCaseIgnoredPropertyNamingStrategy extends PropertyNamingStrategies.NamingBase {
+  /**
+   * Names of all fields of a class, including inherited ones, indexed once per class.
+   */
+  private static final ClassValue<Set<String>> fieldNames = new ClassValue<>() {
+    @Override
+    protected Set<String> computeValue(Class<?> type) {
+      Set<String> names = new HashSet<>();
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          names.add(field.getName());
+        }
+      }
+      return Set.copyOf(names);
+    }
+  };
+
   @Override
   public String nameForGetterMethod(MapperConfig<?> config, AnnotatedMethod method, String defaultName) {
     return translate(defaultName, method.getDeclaringClass());
@@ -29,18 +47,15 @@ public class FirstCharCaseIgnoredPropertyNamingStrategy extends PropertyNamingSt
   }
 
   private String translate(String name, Class<?> type) {
-    return toFieldName(name, type)
-      .or(() -> toFieldName(firstCharToLowerCase(name), type))
-      .or(() -> toFieldName(firstCharToUpperCase(name), type))
-      .orElse(null);
-  }
-
-  private Optional<String> toFieldName(String name, Class<?> type) {
-    try {
-      type.getDeclaredField(name);
-      return Optional.of(name);
-    } catch (NoSuchFieldException e) {
-      return Optional.empty();
+    Set<String> names = fieldNames.get(type);
+    if (names.contains(name)) {
+      return name;
+    }
+    String lowerCased = firstCharToLowerCase(name);
+    if (names.contains(lowerCased)) {
+      return lowerCased;
     }
+    String upperCased = firstCharToUpperCase(name);
+    return names.contains(upperCased) ? upperCased : null;
   }
 }
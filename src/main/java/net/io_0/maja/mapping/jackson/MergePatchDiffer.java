@@ -0,0 +1,208 @@
+package net.io_0.maja.mapping.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import lombok.RequiredArgsConstructor;
+import net.io_0.maja.mapping.jackson.PropertyModel.ModelProperty;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Writes the RFC 7386 - JSON Merge Patch that turns one object into another.
+ * Objects are compared property by property, with the set-flags of PropertyBundles deciding what is present.
+ * Beans and Maps are descended into, everything else (e.g. arrays) is compared structurally and written as a whole if it differs.
+ * Field names of nested objects are only written once a difference is found, so the patch is minimal and written in a single pass.
+ * A merge patch can't express explicit null, a property that is null afterwards is treated as removed.
+ */
+@RequiredArgsConstructor
+public class MergePatchDiffer {
+  private final ObjectMapper objectMapper;
+  private final Function<Class<?>, PropertyModel> propertyModels;
+
+  /**
+   * Write the merge patch.
+   *
+   * @param before object before changes
+   * @param after object after changes, of the same type
+   * @param gen generator to write the patch to
+   */
+  public void write(Object before, Object after, JsonGenerator gen) throws IOException {
+    if (isNull(before) || isNull(after) || !before.getClass().equals(after.getClass()) || !isObject(before)) {
+      throw new IllegalArgumentException("Can only diff two objects of the same type");
+    }
+
+    gen.writeStartObject();
+    diffObjects(before, after, new Pending(gen));
+    gen.writeEndObject();
+  }
+
+  private void diffObjects(Object before, Object after, Pending pending) throws IOException {
+    if (before instanceof Map) {
+      diffMaps((Map<?, ?>) before, (Map<?, ?>) after, pending);
+    } else {
+      diffBeans(before, after, pending);
+    }
+  }
+
+  private void diffBeans(Object before, Object after, Pending pending) throws IOException {
+    for (ModelProperty property : propertyModels.apply(before.getClass()).getProperties()) {
+      if (property.isReadable()) {
+        diffValues(
+          property.getSerializedName(),
+          property.isAssigned(before) ? property.get(before) : null,
+          property.isAssigned(after) ? property.get(after) : null,
+          pending
+        );
+      }
+    }
+  }
+
+  private void diffMaps(Map<?, ?> before, Map<?, ?> after, Pending pending) throws IOException {
+    for (Map.Entry<?, ?> entry : before.entrySet()) {
+      if (nonNull(entry.getValue()) && !after.containsKey(entry.getKey())) {
+        pending.flush().writeNullField(String.valueOf(entry.getKey()));
+      }
+    }
+    for (Map.Entry<?, ?> entry : after.entrySet()) {
+      diffValues(String.valueOf(entry.getKey()), before.get(entry.getKey()), entry.getValue(), pending);
+    }
+  }
+
+  private void diffValues(String name, Object before, Object after, Pending pending) throws IOException {
+    if (isNull(after)) {
+      if (nonNull(before)) {
+        pending.flush().writeNullField(name);
+      }
+    } else if (nonNull(before) && sameKindOfObject(before, after)) {
+      pending.push(name);
+      diffObjects(before, after, pending);
+      pending.pop();
+    } else if (!structurallyEquals(before, after)) {
+      pending.flush().writeFieldName(name);
+      objectMapper.writeValue(pending.gen, after);
+    }
+  }
+
+  private boolean structurallyEquals(Object a, Object b) throws IOException {
+    if (a == b) {
+      return true;
+    }
+    if (isNull(a) || isNull(b)) {
+      return false;
+    }
+    if (a instanceof Map && b instanceof Map) {
+      return mapsEqual((Map<?, ?>) a, (Map<?, ?>) b);
+    }
+    if (a instanceof List && b instanceof List) {
+      return listsEqual((List<?>) a, (List<?>) b);
+    }
+    if (!a.getClass().equals(b.getClass())) {
+      return false;
+    }
+    if (a instanceof BigDecimal) {
+      return ((BigDecimal) a).compareTo((BigDecimal) b) == 0;
+    }
+    if (a instanceof Collection || a.getClass().isArray() || !isObject(a)) {
+      return Objects.deepEquals(a, b);
+    }
+    return beansEqual(a, b);
+  }
+
+  private boolean listsEqual(List<?> a, List<?> b) throws IOException {
+    if (a.size() != b.size()) {
+      return false;
+    }
+    Iterator<?> itA = a.iterator();
+    Iterator<?> itB = b.iterator();
+    while (itA.hasNext()) {
+      if (!structurallyEquals(itA.next(), itB.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean mapsEqual(Map<?, ?> a, Map<?, ?> b) throws IOException {
+    if (a.size() != b.size()) {
+      return false;
+    }
+    for (Map.Entry<?, ?> entry : a.entrySet()) {
+      if (!b.containsKey(entry.getKey()) || !structurallyEquals(entry.getValue(), b.get(entry.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean beansEqual(Object a, Object b) throws IOException {
+    for (ModelProperty property : propertyModels.apply(a.getClass()).getProperties()) {
+      if (property.isReadable() && (
+        property.isAssigned(a) != property.isAssigned(b) ||
+        !structurallyEquals(property.get(a), property.get(b))
+      )) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Maps of any implementation or beans of the same class can be diffed property by property.
+   */
+  private boolean sameKindOfObject(Object before, Object after) throws JsonMappingException {
+    return before instanceof Map ?
+      after instanceof Map :
+      before.getClass().equals(after.getClass()) && isObject(after);
+  }
+
+  /**
+   * Beans and Maps are objects in JSON, everything else isn't.
+   */
+  private boolean isObject(Object value) throws JsonMappingException {
+    return value instanceof Map ||
+      objectMapper.getSerializerProviderInstance().findValueSerializer(value.getClass()) instanceof BeanSerializerBase;
+  }
+
+  /**
+   * Nested object field names waiting for the first difference before being written.
+   */
+  @RequiredArgsConstructor
+  private static class Pending {
+    private final JsonGenerator gen;
+    private final Deque<String> names = new ArrayDeque<>();
+    private int written = 0;
+
+    private void push(String name) {
+      names.addLast(name);
+    }
+
+    private void pop() throws IOException {
+      if (names.size() == written) {
+        gen.writeEndObject();
+        written--;
+      }
+      names.removeLast();
+    }
+
+    private JsonGenerator flush() throws IOException {
+      Iterator<String> unwritten = names.iterator();
+      for (int i = 0; i < written; i++) {
+        unwritten.next();
+      }
+      while (unwritten.hasNext()) {
+        gen.writeFieldName(unwritten.next());
+        gen.writeStartObject();
+        written++;
+      }
+      return gen;
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package net.io_0.maja.mapping.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import lombok.RequiredArgsConstructor;
+import net.io_0.maja.mapping.jackson.PropertyModel.ModelProperty;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Applies RFC 7386 - JSON Merge Patch documents in place.
+ * The patch is streamed, only the values it contains get bound, one property at a time, and are written via setters,
+ * so that PropertyBundle set-tracking stays right. Objects in the patch are merged into existing beans and Maps,
+ * everything else replaces the current value. A null in the patch removes: Map entries get removed,
+ * PropertyBundle properties become absent and other properties null.
+ */
+@RequiredArgsConstructor
+public class MergePatcher {
+  private final ObjectMapper objectMapper;
+  private final DeserializationProblemHandler problemHandler;
+  private final Function<Class<?>, PropertyModel> propertyModels;
+
+  /**
+   * Apply a patch.
+   *
+   * @param target object to patch
+   * @param parser parser positioned before the patch document
+   * @return the patched target, or a replacement if the patch is not an object or the target can't be patched in place
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T apply(T target, JsonParser parser) throws IOException {
+    DeserializationConfig config = objectMapper.getDeserializationConfig().withHandler(problemHandler);
+    DeserializationContext ctx = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+      .createInstance(config, parser, objectMapper.getInjectableValues());
+
+    if (isNull(parser.nextToken())) {
+      return target;
+    }
+    JavaType type = isNull(target) ? config.constructType(Object.class) : config.constructType(target.getClass());
+    return (T) patchValue(target, type, parser, ctx);
+  }
+
+  private Object patchValue(Object current, JavaType type, JsonParser p, DeserializationContext ctx) throws IOException {
+    if (p.currentToken() != JsonToken.START_OBJECT) {
+      return p.currentToken() == JsonToken.VALUE_NULL ? null : ctx.readValue(p, type);
+    }
+
+    Object target = isPatchable(current, ctx) ? current : newPatchable(type, ctx).orElse(null);
+    if (isNull(target)) {
+      return ctx.readValue(p, type);
+    }
+
+    if (target instanceof Map) {
+      patchMap(asMap(target), type.isMapLikeType() ? type : ctx.constructType(Map.class), p, ctx);
+    } else {
+      patchBean(target, p, ctx);
+    }
+    return target;
+  }
+
+  private void patchMap(Map<Object, Object> target, JavaType type, JsonParser p, DeserializationContext ctx) throws IOException {
+    KeyDeserializer keyDeserializer = ctx.findKeyDeserializer(type.getKeyType(), null);
+    JavaType valueType = type.getContentType();
+
+    for (String name = p.nextFieldName(); !isNull(name); name = p.nextFieldName()) {
+      Object key = keyDeserializer.deserializeKey(name, ctx);
+      if (p.nextToken() == JsonToken.VALUE_NULL) {
+        target.remove(key);
+      } else {
+        target.put(key, patchValue(target.get(key), valueType, p, ctx));
+      }
+    }
+  }
+
+  private void patchBean(Object target, JsonParser p, DeserializationContext ctx) throws IOException {
+    PropertyModel model = propertyModels.apply(target.getClass());
+
+    for (String name = p.nextFieldName(); !isNull(name); name = p.nextFieldName()) {
+      JsonToken token = p.nextToken();
+      Optional<ModelProperty> property = model.find(name).filter(ModelProperty::isWritable);
+      if (property.isEmpty()) {
+        p.skipChildren(); // ignore unknown fields
+        continue;
+      }
+
+      ModelProperty prop = property.get();
+      if (token == JsonToken.VALUE_NULL) {
+        prop.unassign(target);
+      } else {
+        Object current = token == JsonToken.START_OBJECT && prop.isReadable() ? prop.get(target) : null;
+        prop.set(target, patchValue(current, prop.getType(), p, ctx));
+      }
+    }
+  }
+
+  private static boolean isPatchable(Object value, DeserializationContext ctx) throws JsonMappingException {
+    return value instanceof Map ||
+      (!isNull(value) && ctx.findRootValueDeserializer(ctx.constructType(value.getClass())) instanceof BeanDeserializerBase);
+  }
+
+  /**
+   * RFC 7386 patches a non object target as if it was an empty object, so we need an empty Map or bean to patch.
+   */
+  private static Optional<Object> newPatchable(JavaType type, DeserializationContext ctx) throws JsonMappingException {
+    Class<?> raw = type.getRawClass();
+    if (type.isMapLikeType() && (raw.isInterface() || Modifier.isAbstract(raw.getModifiers()))) {
+      return Optional.of(new LinkedHashMap<>());
+    }
+    if (raw.isInterface() || Modifier.isAbstract(raw.getModifiers()) ||
+      !(type.isMapLikeType() || ctx.findRootValueDeserializer(type) instanceof BeanDeserializerBase)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(ClassUtil.findConstructor(raw, ctx.canOverrideAccessModifiers()).newInstance());
+    } catch (Exception e) {
+      return Optional.empty();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Object, Object> asMap(Object map) {
+    return (Map<Object, Object>) map;
+  }
+}
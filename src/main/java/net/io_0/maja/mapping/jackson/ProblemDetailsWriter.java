@@ -0,0 +1,105 @@
+package net.io_0.maja.mapping.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import net.io_0.maja.PropertyIssue;
+import net.io_0.maja.PropertyIssues;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Writes PropertyIssues as RFC 7807 - Problem Details, straight to a generator, with the issues as "issues" extension member.
+ * Issues are either listed in order, each with its property, or grouped by property in order of first appearance.
+ * Field names are encoded once, writing a report only encodes the issues themselves.
+ */
+public class ProblemDetailsWriter {
+  public static final String TYPE = "about:blank";
+  public static final String TITLE = "Invalid properties";
+  public static final int STATUS = 422;
+
+  private static final SerializableString TYPE_FIELD = new SerializedString("type");
+  private static final SerializableString TITLE_FIELD = new SerializedString("title");
+  private static final SerializableString STATUS_FIELD = new SerializedString("status");
+  private static final SerializableString ISSUES_FIELD = new SerializedString("issues");
+  private static final SerializableString PROPERTY_FIELD = new SerializedString("property");
+  private static final SerializableString CODE_FIELD = new SerializedString("code");
+  private static final SerializableString MESSAGE_FIELD = new SerializedString("message");
+  private static final SerializableString TYPE_VALUE = new SerializedString(TYPE);
+  private static final SerializableString TITLE_VALUE = new SerializedString(TITLE);
+
+  private ProblemDetailsWriter() {}
+
+  /**
+   * Write the problem details.
+   *
+   * @param propertyIssues issues to report
+   * @param groupedByPath true to group the issues by property, e.g. { "issues": { "a.b": [ { "code": ... } ] } }
+   * @param gen generator to write to
+   */
+  public static void write(PropertyIssues propertyIssues, boolean groupedByPath, JsonGenerator gen) throws IOException {
+    gen.writeStartObject();
+    gen.writeFieldName(TYPE_FIELD);
+    gen.writeString(TYPE_VALUE);
+    gen.writeFieldName(TITLE_FIELD);
+    gen.writeString(TITLE_VALUE);
+    gen.writeFieldName(STATUS_FIELD);
+    gen.writeNumber(STATUS);
+    gen.writeFieldName(ISSUES_FIELD);
+    if (groupedByPath) {
+      writeGrouped(propertyIssues, gen);
+    } else {
+      writeListed(propertyIssues, gen);
+    }
+    gen.writeEndObject();
+  }
+
+  private static void writeListed(PropertyIssues propertyIssues, JsonGenerator gen) throws IOException {
+    gen.writeStartArray();
+    for (PropertyIssue propertyIssue : propertyIssues) {
+      gen.writeStartObject();
+      gen.writeFieldName(PROPERTY_FIELD);
+      gen.writeString(propertyIssue.getPropertyName());
+      writeIssueFields(propertyIssue, gen);
+      gen.writeEndObject();
+    }
+    gen.writeEndArray();
+  }
+
+  private static void writeGrouped(PropertyIssues propertyIssues, JsonGenerator gen) throws IOException {
+    Map<String, List<PropertyIssue>> byPath = new LinkedHashMap<>();
+    propertyIssues.forEach(propertyIssue ->
+      byPath.computeIfAbsent(pathOf(propertyIssue), path -> new ArrayList<>(1)).add(propertyIssue)
+    );
+
+    gen.writeStartObject();
+    for (Map.Entry<String, List<PropertyIssue>> entry : byPath.entrySet()) {
+      gen.writeFieldName(entry.getKey());
+      gen.writeStartArray();
+      for (PropertyIssue propertyIssue : entry.getValue()) {
+        gen.writeStartObject();
+        writeIssueFields(propertyIssue, gen);
+        gen.writeEndObject();
+      }
+      gen.writeEndArray();
+    }
+    gen.writeEndObject();
+  }
+
+  private static void writeIssueFields(PropertyIssue propertyIssue, JsonGenerator gen) throws IOException {
+    gen.writeFieldName(CODE_FIELD);
+    gen.writeString(propertyIssue.getIssue().getCode());
+    gen.writeFieldName(MESSAGE_FIELD);
+    gen.writeString(propertyIssue.getIssue().getMessage());
+  }
+
+  private static String pathOf(PropertyIssue propertyIssue) {
+    return isNull(propertyIssue.getPropertyName()) ? "" : propertyIssue.getPropertyName();
+  }
+}
@@ -0,0 +1,171 @@
+package net.io_0.maja.mapping.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.io_0.maja.PropertyBundle;
+import net.io_0.maja.WithUnconventionalName;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.*;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * The properties of a class the way Jackson sees them, i.e. with the naming strategy and annotation introspector applied.
+ * Introspection happens once on creation, afterwards properties can be looked up, read and written without it.
+ * Meant to be created once per class and cached.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class PropertyModel {
+  private final Class<?> type;
+  private final List<ModelProperty> properties;
+  private final Map<String, ModelProperty> propertiesByName;
+
+  public static PropertyModel of(DeserializationConfig config, Class<?> type) {
+    BeanDescription beanDescription = config.introspect(config.constructType(type));
+    boolean forceAccess = config.isEnabled(MapperFeature.OVERRIDE_PUBLIC_ACCESS_MODIFIERS);
+
+    List<ModelProperty> properties = new ArrayList<>();
+    Map<String, ModelProperty> propertiesByName = new HashMap<>();
+    for (BeanPropertyDefinition definition : beanDescription.findProperties()) {
+      AnnotatedMember getter = definition.getAccessor();
+      AnnotatedMember setter = definition.hasSetter() ? definition.getSetter() : definition.getField();
+      if (nonNull(getter)) getter.fixAccess(forceAccess);
+      if (nonNull(setter)) setter.fixAccess(forceAccess);
+
+      ModelProperty property = new ModelProperty(
+        definition.getName(), serializedName(type, definition), definition.getPrimaryType(), getter, setter
+      );
+      properties.add(property);
+      propertiesByName.put(property.getName(), property);
+      propertiesByName.putIfAbsent(property.getSerializedName(), property);
+    }
+
+    return new PropertyModel(type, List.copyOf(properties), Map.copyOf(propertiesByName));
+  }
+
+  /**
+   * Find a property by its Java name or serialized name.
+   *
+   * @param name name to look for
+   * @return property if present
+   */
+  public Optional<ModelProperty> find(String name) {
+    return Optional.ofNullable(propertiesByName.get(name));
+  }
+
+  public boolean isPropertyBundle() {
+    return PropertyBundle.class.isAssignableFrom(type);
+  }
+
+  private static String serializedName(Class<?> type, BeanPropertyDefinition definition) {
+    Field field = nonNull(definition.getField()) ? definition.getField().getAnnotated() : findField(type, definition.getName());
+    return nonNull(field) && field.isAnnotationPresent(WithUnconventionalName.class) ?
+      field.getAnnotation(WithUnconventionalName.class).value() :
+      definition.getName();
+  }
+
+  private static Field findField(Class<?> type, String name) {
+    for (Class<?> c = type; nonNull(c) && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (field.getName().equals(name)) {
+          return field;
+        }
+      }
+    }
+    return null;
+  }
+
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  @Getter
+  public static class ModelProperty {
+    /**
+     * Java name, also used to mark PropertyBundle properties as set
+     */
+    private final String name;
+    /**
+     * Name in JSON, YAML or Maps
+     */
+    private final String serializedName;
+    private final JavaType type;
+    @Getter(AccessLevel.NONE) private final AnnotatedMember getter;
+    @Getter(AccessLevel.NONE) private final AnnotatedMember setter;
+
+    public boolean isReadable() {
+      return nonNull(getter);
+    }
+
+    public boolean isWritable() {
+      return nonNull(setter);
+    }
+
+    public Object get(Object bean) {
+      return getter.getValue(bean);
+    }
+
+    /**
+     * Write via setter, so that a PropertyBundle marks the property as set.
+     */
+    public void set(Object bean, Object value) {
+      setter.setValue(bean, value);
+    }
+
+    /**
+     * Getter as method handle of type (Object)Object, to read without reflection per call.
+     */
+    public MethodHandle getterHandle() {
+      return handle(getter, false).asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    /**
+     * Setter as method handle of type (Object, Object)void, to write without reflection per call.
+     */
+    public MethodHandle setterHandle() {
+      return handle(setter, true).asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    /**
+     * Check if a property is assigned. Only PropertyBundle properties can be unassigned.
+     */
+    public boolean isAssigned(Object bean) {
+      return !(bean instanceof PropertyBundle) || ((PropertyBundle) bean).isPropertySet(name);
+    }
+
+    /**
+     * Makes a property absent again, only PropertyBundle properties can be absent, others are set to null.
+     */
+    public void unassign(Object bean) {
+      set(bean, null);
+      if (bean instanceof PropertyBundle) {
+        ((PropertyBundle) bean).unmarkPropertySet(name);
+      }
+    }
+
+    private MethodHandle handle(AnnotatedMember member, boolean write) {
+      try {
+        Member annotated = member.getMember();
+        if (annotated instanceof Method) {
+          return MethodHandles.lookup().unreflect((Method) annotated);
+        }
+        return write ?
+          MethodHandles.lookup().unreflectSetter((Field) annotated) :
+          MethodHandles.lookup().unreflectGetter((Field) annotated);
+      } catch (IllegalAccessException e) {
+        throw new IllegalArgumentException(String.format("Couldn't access property with name '%s'", name), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package net.io_0.maja.mapping.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import net.io_0.maja.mapping.FieldSelection;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Only lets the given property paths, e.g. "objectToPojo.stringToUUID", through to deserialization.
+ * Paths are dotted document names, the same as PropertyIssue names, see {@link FieldSelection}.
+ * Arrays are transparent, a path applies to all elements, unless it contains an element index, e.g. "pojos.0.name".
+ * Fields not on a path are skipped with {@link JsonParser#skipChildren()}, so their values are never decoded.
+ */
+public class PropertyPathFilteringParser extends JsonParserDelegate {
+  private final Deque<FieldSelection> scopes = new ArrayDeque<>();
+  private final FieldSelection root;
+  private FieldSelection pending;
+
+  public PropertyPathFilteringParser(JsonParser parser, Collection<String> paths) {
+    super(parser);
+    this.root = FieldSelection.of(paths);
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException {
+    JsonToken token = delegate.nextToken();
+    while (token == JsonToken.FIELD_NAME) {
+      pending = scopes.isEmpty() ? FieldSelection.ALL : scopes.peek().select(delegate.currentName());
+      if (pending != null) {
+        break;
+      }
+      delegate.nextToken();
+      delegate.skipChildren(); // ignore unrequested fields
+      token = delegate.nextToken();
+    }
+
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      scopes.push(scopeOfValue());
+    } else if ((token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) && !scopes.isEmpty()) {
+      scopes.pop();
+    }
+    return token;
+  }
+
+  @Override
+  public JsonToken nextValue() throws IOException {
+    JsonToken token = nextToken();
+    return token == JsonToken.FIELD_NAME ? nextToken() : token;
+  }
+
+  @Override
+  public JsonParser skipChildren() throws IOException {
+    JsonToken token = delegate.currentToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      delegate.skipChildren();
+      scopes.pop();
+    }
+    return this;
+  }
+
+  private FieldSelection scopeOfValue() {
+    JsonStreamContext parent = delegate.getParsingContext().getParent();
+    if (parent == null || parent.inRoot()) {
+      return root;
+    }
+    if (parent.inArray()) {
+      if (scopes.isEmpty()) {
+        return FieldSelection.ALL;
+      }
+      FieldSelection element = scopes.peek().select(String.valueOf(parent.getCurrentIndex()));
+      return isNull(element) ? scopes.peek() : element;
+    }
+    return pending;
+  }
+}
@@ -0,0 +1,93 @@
+package net.io_0.maja.metrics;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps duration histograms, sizes and issue counts in memory, per operation and type.
+ * Durations go to power of two buckets, so percentiles are upper bounds, at most twice the real value.
+ */
+public class HistogramListener implements Listener {
+  private final Map<Key, Histogram> histograms = new ConcurrentHashMap<>();
+
+  @Override
+  public void onEnd(Observation observation) {
+    histograms
+      .computeIfAbsent(new Key(observation.getOperation(), observation.getType()), key -> new Histogram())
+      .record(observation);
+  }
+
+  public Optional<Histogram> getHistogram(Operation operation, Class<?> type) {
+    return Optional.ofNullable(histograms.get(new Key(operation, type)));
+  }
+
+  @RequiredArgsConstructor
+  @EqualsAndHashCode
+  private static class Key {
+    private final Operation operation;
+    private final Class<?> type;
+  }
+
+  public static class Histogram {
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE); // bucket i holds durations from 2^(i-1) to below 2^i
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder totalSize = new LongAdder();
+    private final Map<String, LongAdder> issueCounts = new ConcurrentHashMap<>();
+
+    private void record(Observation observation) {
+      long nanos = Math.max(0, observation.getDurationNanos());
+      buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(nanos));
+      count.increment();
+      totalNanos.add(nanos);
+      if (observation.getSize() > 0) {
+        totalSize.add(observation.getSize());
+      }
+      observation.getIssueCounts().forEach((code, issues) ->
+        issueCounts.computeIfAbsent(code, c -> new LongAdder()).add(issues)
+      );
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+
+    public long getTotalNanos() {
+      return totalNanos.sum();
+    }
+
+    /**
+     * @return bytes or chars processed, where known
+     */
+    public long getTotalSize() {
+      return totalSize.sum();
+    }
+
+    /**
+     * @param percentile e.g. 0.99
+     * @return duration that the given share of operations didn't exceed, rounded up to a power of two minus one
+     */
+    public long getPercentileNanos(double percentile) {
+      long rank = (long) Math.ceil(percentile * getCount());
+      long seen = 0;
+      for (int i = 0; i < buckets.length(); i++) {
+        seen += buckets.get(i);
+        if (seen >= rank && seen > 0) {
+          return (1L << i) - 1;
+        }
+      }
+      return 0;
+    }
+
+    public Map<String, Long> getIssueCounts() {
+      return issueCounts.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+  }
+}
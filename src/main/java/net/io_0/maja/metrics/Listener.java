@@ -0,0 +1,31 @@
+package net.io_0.maja.metrics;
+
+/**
+ * Observes mappings, serializations and validations, e.g. to record metrics or trace spans.
+ * Called on the thread doing the work, start and end of one operation are always called on the same thread.
+ * Register with {@link Listeners#register(Listener)}.
+ */
+public interface Listener {
+  Listener NOOP = new Listener() {};
+
+  default void onStart(Operation operation, Class<?> type, String format) {}
+
+  default void onEnd(Observation observation) {}
+
+  default Listener and(Listener other) {
+    Listener self = this;
+    return new Listener() {
+      @Override
+      public void onStart(Operation operation, Class<?> type, String format) {
+        self.onStart(operation, type, format);
+        other.onStart(operation, type, format);
+      }
+
+      @Override
+      public void onEnd(Observation observation) {
+        self.onEnd(observation);
+        other.onEnd(observation);
+      }
+    };
+  }
+}
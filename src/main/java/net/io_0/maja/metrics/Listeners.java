@@ -0,0 +1,43 @@
+package net.io_0.maja.metrics;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the listener that the Mapper and Validators report to.
+ * Without registered listeners the no-op listener is in place and operations skip observing altogether.
+ */
+public class Listeners {
+  private static final Lock lock = new ReentrantLock();
+  private static volatile Listener current = Listener.NOOP;
+
+  private Listeners() {}
+
+  public static Listener current() {
+    return current;
+  }
+
+  /**
+   * Add a listener, it's called after the ones registered before.
+   */
+  public static void register(Listener listener) {
+    lock.lock();
+    try {
+      current = current == Listener.NOOP ? listener : current.and(listener);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Remove all listeners.
+   */
+  public static void clear() {
+    lock.lock();
+    try {
+      current = Listener.NOOP;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
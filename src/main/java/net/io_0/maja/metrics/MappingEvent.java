@@ -0,0 +1,41 @@
+package net.io_0.maja.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for mapping a document to a type, enabled and disabled through JFR settings.
+ */
+@Name("net.io_0.maja.Mapping")
+@Label("Mapping")
+@Category("Maja")
+@StackTrace(false)
+public class MappingEvent extends Event {
+  private static final EventType TYPE = EventType.getEventType(MappingEvent.class);
+
+  @Label("Target Class")
+  private Class<?> targetClass;
+  @Label("Format")
+  private String format;
+  @Label("Size")
+  @Description("Bytes or chars processed, -1 if unknown")
+  private long size;
+  @Label("Issue Count")
+  private int issueCount;
+
+  /**
+   * @return true if a recording has mapping events enabled
+   */
+  public static boolean recording() {
+    return TYPE.isEnabled();
+  }
+
+  public void record(Class<?> targetClass, String format, long size, int issueCount) {
+    if (shouldCommit()) {
+      this.targetClass = targetClass;
+      this.format = format;
+      this.size = size;
+      this.issueCount = issueCount;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package net.io_0.maja.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * What happened during one mapping, serialization or validation.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter @ToString
+public class Observation {
+  private final Operation operation;
+  private final Class<?> type;
+  /**
+   * Format name, e.g. "JSON" or "YAML", null for validations.
+   */
+  private final String format;
+  /**
+   * Bytes or chars processed, -1 if unknown.
+   */
+  private final long size;
+  private final long durationNanos;
+  /**
+   * Property issues by issue code.
+   */
+  private final Map<String, Integer> issueCounts;
+
+  public static Observation of(Operation operation, Class<?> type, String format, long size, long durationNanos, Map<String, Integer> issueCounts) {
+    return new Observation(operation, type, format, size, durationNanos, issueCounts);
+  }
+}
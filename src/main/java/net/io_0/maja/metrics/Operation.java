@@ -0,0 +1,5 @@
+package net.io_0.maja.metrics;
+
+public enum Operation {
+  MAPPING, SERIALIZATION, VALIDATION
+}
@@ -0,0 +1,37 @@
+package net.io_0.maja.metrics;
+
+import jdk.jfr.*;
+import net.io_0.maja.PropertyIssue;
+
+/**
+ * JFR event for a single property issue found while mapping or validating.
+ * Disabled by default as there can be many, enable it through JFR settings.
+ */
+@Name("net.io_0.maja.PropertyIssue")
+@Label("Property Issue")
+@Category("Maja")
+@Enabled(false)
+@StackTrace(false)
+public class PropertyIssueEvent extends Event {
+  private static final EventType TYPE = EventType.getEventType(PropertyIssueEvent.class);
+
+  @Label("Target Class")
+  private Class<?> targetClass;
+  @Label("Property Name")
+  private String propertyName;
+  @Label("Code")
+  private String code;
+
+  public static void record(Class<?> targetClass, PropertyIssue propertyIssue) {
+    if (!TYPE.isEnabled()) {
+      return;
+    }
+    PropertyIssueEvent event = new PropertyIssueEvent();
+    if (event.shouldCommit()) {
+      event.targetClass = targetClass;
+      event.propertyName = propertyIssue.getPropertyName();
+      event.code = propertyIssue.getIssue().getCode();
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package net.io_0.maja.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for writing an object to a format, enabled and disabled through JFR settings.
+ */
+@Name("net.io_0.maja.Serialization")
+@Label("Serialization")
+@Category("Maja")
+@StackTrace(false)
+public class SerializationEvent extends Event {
+  private static final EventType TYPE = EventType.getEventType(SerializationEvent.class);
+
+  @Label("Target Class")
+  private Class<?> targetClass;
+  @Label("Format")
+  private String format;
+  @Label("Size")
+  @Description("Bytes or chars written, -1 if unknown")
+  private long size;
+
+  /**
+   * @return true if a recording has serialization events enabled
+   */
+  public static boolean recording() {
+    return TYPE.isEnabled();
+  }
+
+  public void record(Class<?> targetClass, String format, long size) {
+    if (shouldCommit()) {
+      this.targetClass = targetClass;
+      this.format = format;
+      this.size = size;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package net.io_0.maja.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for validating an object, enabled and disabled through JFR settings.
+ */
+@Name("net.io_0.maja.Validation")
+@Label("Validation")
+@Category("Maja")
+@StackTrace(false)
+public class ValidationEvent extends Event {
+  private static final EventType TYPE = EventType.getEventType(ValidationEvent.class);
+
+  @Label("Target Class")
+  private Class<?> targetClass;
+  @Label("Issue Count")
+  private int issueCount;
+
+  /**
+   * @return true if a recording has validation events enabled
+   */
+  public static boolean recording() {
+    return TYPE.isEnabled();
+  }
+
+  public void record(Class<?> targetClass, int issueCount) {
+    if (shouldCommit()) {
+      this.targetClass = targetClass;
+      this.issueCount = issueCount;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,619 @@
+package net.io_0.maja.validation;
+
+import java.net.IDN;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Single pass, regex free format checks that give the same answers as the commons-validator routines they replace,
+ * without needing commons-validator at runtime.
+ * Only rare inputs take a slower path: internationalized domain names are converted with {@link IDN} first and urls
+ * beyond the plain scheme://host:port/path?query#fragment shape are split by {@link URI}.
+ * Top level domains are looked up in a bundled table, see {@link TopLevelDomains}.
+ */
+class Formats {
+  private static final int MAX_DOMAIN_LENGTH = 253;
+  private static final int MAX_LABEL_LENGTH = 63;
+  private static final int MAX_USER_LENGTH = 64;
+  private static final int MAX_IPV6_GROUPS = 8;
+  private static final int MAX_IPV6_GROUP_DIGITS = 4;
+  private static final int MAX_IPV6_PREFIX_BITS = 128;
+  private static final int MAX_PORT = 0xFFFF;
+  private static final String[] URL_SCHEMES = { "http", "https", "ftp" };
+
+  static boolean isEmail(String s) {
+    int length = s.length();
+    if (length == 0 || s.charAt(length - 1) == '.') {
+      return false;
+    }
+
+    // split at the last '@' that leaves a user without line terminators and a domain without whitespace
+    int firstLineTerminator = length;
+    int lastWhitespace = -1;
+    for (int i = 0; i < length; i++) {
+      char c = s.charAt(i);
+      if (firstLineTerminator == length && isLineTerminator(c)) {
+        firstLineTerminator = i;
+      }
+      if (isWhitespace(c)) {
+        lastWhitespace = i;
+      }
+    }
+    int at = -1;
+    for (int i = length - 2; i > 0 && i > lastWhitespace; i--) {
+      if (s.charAt(i) == '@' && i <= firstLineTerminator) {
+        at = i;
+        break;
+      }
+    }
+
+    return at > 0 && isEmailUser(s, 0, at) && isEmailDomain(s, at + 1, length);
+  }
+
+  static boolean isHostname(String s) {
+    return isHostname(s, 0, s.length());
+  }
+
+  static boolean isInet4Address(String s) {
+    return isInet4Address(s, 0, s.length());
+  }
+
+  static boolean isInet6Address(String s) {
+    return isInet6Address(s, 0, s.length());
+  }
+
+  static boolean isUrl(String s) {
+    int length = s.length();
+    boolean hasColon = false;
+    for (int i = 0; i < length; i++) {
+      char c = s.charAt(i);
+      if (c <= ' ' || c == 0x7F) {
+        return false;
+      }
+      if (c > 0x7F) {
+        return isUncommonUrl(s);
+      }
+      hasColon |= c == ':';
+    }
+    if (!hasColon) {
+      return false;
+    }
+
+    int authorityStart = schemeSeparatorEnd(s);
+    if (authorityStart < 0) {
+      return isUncommonUrl(s);
+    }
+
+    int authorityEnd = indexOfAny(s, "/?#", authorityStart, length);
+    int hostEnd = indexOf(s, ':', authorityStart, authorityEnd);
+    if (hostEnd < 0) {
+      hostEnd = authorityEnd;
+    }
+    for (int i = authorityStart; i < hostEnd; i++) {
+      char c = s.charAt(i);
+      if (!isAlnum(c) && c != '-' && c != '.') {
+        return isUncommonUrl(s);
+      }
+    }
+    if (hostEnd < authorityEnd && !isAsciiDigits(s, hostEnd + 1, authorityEnd)) {
+      return isUncommonUrl(s);
+    }
+    if (!isHostname(s, authorityStart, hostEnd) && !isInet4Address(s, authorityStart, hostEnd)) {
+      return false;
+    }
+    if (hostEnd < authorityEnd && !isPort(s, hostEnd + 1, authorityEnd)) {
+      return false;
+    }
+
+    int pathEnd = indexOfAny(s, "?#", authorityEnd, length);
+    for (int i = authorityEnd; i < pathEnd; i++) {
+      char c = s.charAt(i);
+      if (c == '/' && i + 1 < pathEnd && s.charAt(i + 1) == '/') {
+        return false;
+      }
+      // dot segments would need normalizing
+      if (!isPathChar(c) || c == '.' && s.charAt(i - 1) == '/') {
+        return isUncommonUrl(s);
+      }
+    }
+
+    int fragmentStart = indexOf(s, '#', pathEnd, length);
+    for (int i = pathEnd + 1; i < length; i++) {
+      char c = s.charAt(i);
+      if (i != fragmentStart && !isPathChar(c) && c != '?') {
+        return isUncommonUrl(s);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Userinfo, IPv6 hosts, percent escapes, dot segments and non ASCII characters, judged like commons-validator does.
+   */
+  private static boolean isUncommonUrl(String s) {
+    URI uri;
+    try {
+      uri = new URI(s);
+    } catch (URISyntaxException e) {
+      return false;
+    }
+    String authority = uri.getRawAuthority();
+    if (!isUrlScheme(uri.getScheme()) || isNull(authority)) {
+      return false;
+    }
+    // java.net.URI already rejects whitespace in query and fragment
+    return isUrlAuthority(toAscii(authority)) && isUrlPath(uri.getRawPath());
+  }
+
+  private static boolean isUrlScheme(String scheme) {
+    if (isNull(scheme)) {
+      return false;
+    }
+    for (String urlScheme : URL_SCHEMES) {
+      if (urlScheme.equalsIgnoreCase(scheme)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isUrlAuthority(String s) {
+    int length = s.length();
+    int i;
+    if (length > 0 && s.charAt(0) == '[') {
+      int close = s.indexOf(']');
+      if (close < 0 || !isIpv6Literal(s, 1, close) || !isInet6Address(s, 1, close)) {
+        return false;
+      }
+      // the port of an IPv6 host isn't range checked
+      i = close + 1;
+      if (i < length && s.charAt(i) == ':') {
+        do {
+          i++;
+        } while (i < length && isDigit(s.charAt(i)));
+      }
+    } else {
+      int hostStart = 0;
+      int userEnd = 0;
+      while (userEnd < length && isUserInfoChar(s.charAt(userEnd))) {
+        userEnd++;
+      }
+      if (userEnd > 0 && userEnd < length && s.charAt(userEnd) == ':') {
+        do {
+          userEnd++;
+        } while (userEnd < length && isUserInfoChar(s.charAt(userEnd)));
+      }
+      if (userEnd > 0 && userEnd < length && s.charAt(userEnd) == '@') {
+        hostStart = userEnd + 1;
+      }
+
+      int hostEnd = hostStart;
+      while (hostEnd < length && (isAlnum(s.charAt(hostEnd)) || s.charAt(hostEnd) == '-' || s.charAt(hostEnd) == '.')) {
+        hostEnd++;
+      }
+      if (!isHostname(s, hostStart, hostEnd) && !isInet4Address(s, hostStart, hostEnd)) {
+        return false;
+      }
+
+      i = hostEnd;
+      if (i < length && s.charAt(i) == ':') {
+        int portStart = ++i;
+        while (i < length && isDigit(s.charAt(i))) {
+          i++;
+        }
+        if (i > portStart && !isPort(s, portStart, i)) {
+          return false;
+        }
+      }
+    }
+    return isBlank(s, i, length) && indexOfLineTerminator(s, i, length) < 0;
+  }
+
+  /**
+   * Either hex digits and colons or an IPv4 address behind "::FFFF:", the bracket content commons-validator accepts.
+   */
+  private static boolean isIpv6Literal(String s, int from, int to) {
+    if (s.startsWith("::FFFF:", from)) {
+      int i = from + "::FFFF:".length();
+      for (int group = 1; ; group++) {
+        int start = i;
+        while (i < to && i - start < 3 && isDigit(s.charAt(i))) {
+          i++;
+        }
+        if (i == start) {
+          break;
+        }
+        if (group == 4 && i == to) {
+          return true;
+        }
+        if (group == 4 || i == to || s.charAt(i) != '.') {
+          break;
+        }
+        i++;
+      }
+    }
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      if (c != ':' && !isDigit(c) && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+        return false;
+      }
+    }
+    return to > from;
+  }
+
+  private static boolean isUrlPath(String path) {
+    if (isNull(path)) {
+      return false;
+    }
+    int length = path.length();
+    if (length > 0 && path.charAt(0) != '/') {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = path.charAt(i);
+      if (!isAlnum(c) && "-:@&?=+,.!/~*'%$_;()".indexOf(c) < 0 || c == '/' && i > 0 && path.charAt(i - 1) == '/') {
+        return false;
+      }
+    }
+
+    // normalizing dot segments must not go above the root
+    int depth = 0;
+    for (int segmentStart = 1; segmentStart < length; ) {
+      int segmentEnd = indexOf(path, '/', segmentStart, length);
+      if (segmentEnd < 0) {
+        segmentEnd = length;
+      }
+      int segmentLength = segmentEnd - segmentStart;
+      if (segmentLength == 2 && path.startsWith("..", segmentStart)) {
+        if (--depth < 0) {
+          return false;
+        }
+      } else if (segmentLength != 1 || path.charAt(segmentStart) != '.') {
+        depth++;
+      }
+      segmentStart = segmentEnd + 1;
+    }
+    return true;
+  }
+
+  /**
+   * @return punycode for internationalized domain names, s itself if it can't be converted
+   */
+  private static String toAscii(String s) {
+    if (isAscii(s)) {
+      return s;
+    }
+    try {
+      return IDN.toASCII(s);
+    } catch (IllegalArgumentException e) {
+      return s;
+    }
+  }
+
+  private static boolean isEmailUser(String s, int from, int to) {
+    if (to - from > MAX_USER_LENGTH) {
+      return false;
+    }
+
+    // words separated by dots, each plain or quoted; bit k is set if a word can start at from + k
+    long wordStarts = 1L;
+    for (int k = 0; k < to - from; k++) {
+      if ((wordStarts & (1L << k)) == 0) {
+        continue;
+      }
+      int p = from + k;
+      if (s.charAt(p) == '"') {
+        // a quoted word may end at any quote until the first one that isn't escaped
+        for (int q = p + 1; q < to; q++) {
+          if (s.charAt(q) == '"') {
+            if (q == to - 1) {
+              return true;
+            }
+            if (s.charAt(q + 1) == '.' && q + 2 < to) {
+              wordStarts |= 1L << (q + 2 - from);
+            }
+            if (s.charAt(q - 1) != '\\') {
+              break;
+            }
+          }
+        }
+      } else {
+        int q = p;
+        while (q < to) {
+          char c = s.charAt(q);
+          if (c == '\\' && q + 1 < to && !isLineTerminator(s.charAt(q + 1))) {
+            q += 2;
+          } else if (isPlainUserChar(c)) {
+            q++;
+          } else {
+            break;
+          }
+        }
+        if (q > p) {
+          if (q == to) {
+            return true;
+          }
+          if (s.charAt(q) == '.' && q + 1 < to) {
+            wordStarts |= 1L << (q + 1 - from);
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isEmailDomain(String s, int from, int to) {
+    if (to - from >= 2 && s.charAt(from) == '[' && s.charAt(to - 1) == ']' && indexOfLineTerminator(s, from + 1, to - 1) < 0) {
+      return isInet4Address(s, from + 1, to - 1) || isInet6Address(s, from + 1, to - 1);
+    }
+    return isHostname(s, from, to);
+  }
+
+  private static boolean isHostname(String s, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (s.charAt(i) > 0x7F) {
+        String ascii = toAscii(s.substring(from, to));
+        return isAscii(ascii) && isHostname(ascii, 0, ascii.length());
+      }
+    }
+    if (to - from > MAX_DOMAIN_LENGTH) {
+      return false;
+    }
+
+    int end = to > from && s.charAt(to - 1) == '.' ? to - 1 : to;
+    int labels = 0;
+    int labelStart = from;
+    for (int i = from; i <= end; i++) {
+      if (i < end && s.charAt(i) != '.') {
+        char c = s.charAt(i);
+        if (!isAlnum(c) && c != '-') {
+          return false;
+        }
+        continue;
+      }
+      int labelLength = i - labelStart;
+      if (labelLength == 0 || labelLength > MAX_LABEL_LENGTH || !isAlnum(s.charAt(labelStart)) || !isAlnum(s.charAt(i - 1))) {
+        return false;
+      }
+      labels++;
+      if (i < end) {
+        labelStart = i + 1;
+      }
+    }
+
+    return labels > 1 && isAlpha(s.charAt(labelStart)) && TopLevelDomains.contains(s, labelStart, end);
+  }
+
+  private static boolean isInet4Address(String s, int from, int to) {
+    int i = from;
+    for (int group = 1; ; group++) {
+      int start = i;
+      int value = 0;
+      while (i < to && i - start < 3 && isDigit(s.charAt(i))) {
+        value = value * 10 + s.charAt(i) - '0';
+        i++;
+      }
+      if (i == start || value > 255 || i - start > 1 && s.charAt(start) == '0') {
+        return false;
+      }
+      if (group == 4) {
+        return i == to;
+      }
+      if (i == to || s.charAt(i) != '.') {
+        return false;
+      }
+      i++;
+    }
+  }
+
+  private static boolean isInet6Address(String s, int from, int to) {
+    int end = to;
+
+    int slash = indexOf(s, '/', from, end);
+    if (slash >= 0) {
+      if (indexOf(s, '/', slash + 1, end) >= 0 || end - slash - 1 < 1 || end - slash - 1 > 3 || !isAsciiDigits(s, slash + 1, end)) {
+        return false;
+      }
+      if (Integer.parseInt(s, slash + 1, end, 10) > MAX_IPV6_PREFIX_BITS) {
+        return false;
+      }
+      end = slash;
+    }
+
+    int percent = indexOf(s, '%', from, end);
+    if (percent >= 0) {
+      if (indexOf(s, '%', percent + 1, end) >= 0 || percent + 1 == end) {
+        return false;
+      }
+      for (int i = percent + 1; i < end; i++) {
+        if (isWhitespace(s.charAt(i))) {
+          return false;
+        }
+      }
+      end = percent;
+    }
+
+    int length = end - from;
+    boolean startsCompressed = length >= 2 && s.charAt(from) == ':' && s.charAt(from + 1) == ':';
+    boolean endsCompressed = length >= 2 && s.charAt(end - 1) == ':' && s.charAt(end - 2) == ':';
+    if (length == 2 && startsCompressed) {
+      return true;
+    }
+    int compressed = indexOf(s, "::", from, end);
+    if (compressed >= 0 && indexOf(s, "::", compressed + 1, end) >= 0) {
+      return false;
+    }
+    if (length > 0 && (s.charAt(from) == ':' && !startsCompressed || s.charAt(end - 1) == ':' && !endsCompressed)) {
+      return false;
+    }
+
+    // the empty group in front of a leading "::" and behind a trailing "::" isn't counted
+    int groupStart = startsCompressed ? from + 1 : from;
+    int groupsEnd = endsCompressed ? end - 1 : end;
+    int groups = 0;
+    int validGroups = 0;
+    int emptyGroups = 0;
+    while (groupStart <= groupsEnd) {
+      int groupEnd = indexOf(s, ':', groupStart, groupsEnd);
+      boolean last = groupEnd < 0;
+      if (last) {
+        groupEnd = groupsEnd;
+      }
+      if (++groups > MAX_IPV6_GROUPS) {
+        return false;
+      }
+
+      if (isBlank(s, groupStart, groupEnd)) {
+        if (++emptyGroups > 1) {
+          return false;
+        }
+        validGroups++;
+      } else if (last && indexOf(s, '.', groupStart, groupEnd) >= 0) {
+        if (!isInet4Address(s, groupStart, groupEnd)) {
+          return false;
+        }
+        validGroups += 2;
+      } else {
+        emptyGroups = 0;
+        if (!isHexGroup(s, groupStart, groupEnd)) {
+          return false;
+        }
+        validGroups++;
+      }
+
+      groupStart = groupEnd + 1;
+    }
+
+    return validGroups <= MAX_IPV6_GROUPS && (validGroups == MAX_IPV6_GROUPS || compressed >= 0);
+  }
+
+  private static boolean isHexGroup(String s, int from, int to) {
+    if (to - from > MAX_IPV6_GROUP_DIGITS) {
+      return false;
+    }
+    char first = s.charAt(from);
+    boolean signed = first == '+' || first == '-';
+    if (signed && to - from == 1) {
+      return false;
+    }
+    int value = 0;
+    for (int i = signed ? from + 1 : from; i < to; i++) {
+      int digit = Character.digit(s.charAt(i), 16);
+      if (digit < 0) {
+        return false;
+      }
+      value = value * 16 + digit;
+    }
+    return first != '-' || value == 0;
+  }
+
+  private static boolean isPort(String s, int from, int to) {
+    int value = 0;
+    for (int i = from; i < to && value <= MAX_PORT; i++) {
+      value = value * 10 + s.charAt(i) - '0';
+    }
+    return value <= MAX_PORT;
+  }
+
+  private static int schemeSeparatorEnd(String s) {
+    for (String scheme : URL_SCHEMES) {
+      int end = scheme.length();
+      if (s.regionMatches(true, 0, scheme, 0, end) && s.startsWith("://", end)) {
+        return end + 3;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isPlainUserChar(char c) {
+    if (c == '\'' || c > 0x7F) {
+      return true;
+    }
+    return c > ' ' && c != 0x7F && "()<>@,;:\\\".[]".indexOf(c) < 0;
+  }
+
+  private static boolean isUserInfoChar(char c) {
+    return isAlnum(c) || "%&'()*+,-._~!$;=".indexOf(c) >= 0;
+  }
+
+  private static boolean isPathChar(char c) {
+    return isAlnum(c) || "-._~!*'():@&=+$,;/".indexOf(c) >= 0;
+  }
+
+  private static boolean isBlank(String s, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (s.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAscii(String s) {
+    for (int i = 0; i < s.length(); i++) {
+      if (s.charAt(i) > 0x7F) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAsciiDigits(String s, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (!isDigit(s.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int indexOf(String s, char c, int from, int to) {
+    int i = s.indexOf(c, from);
+    return i < to ? i : -1;
+  }
+
+  private static int indexOf(String s, String part, int from, int to) {
+    int i = s.indexOf(part, from);
+    return i >= 0 && i + part.length() <= to ? i : -1;
+  }
+
+  private static int indexOfAny(String s, String chars, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (chars.indexOf(s.charAt(i)) >= 0) {
+        return i;
+      }
+    }
+    return to;
+  }
+
+  private static int indexOfLineTerminator(String s, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (isLineTerminator(s.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isAlpha(char c) {
+    return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+  }
+
+  private static boolean isAlnum(char c) {
+    return isAlpha(c) || isDigit(c);
+  }
+}
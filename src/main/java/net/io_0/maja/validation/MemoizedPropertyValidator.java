@@ -0,0 +1,96 @@
+package net.io_0.maja.validation;
+
+import net.io_0.maja.Property;
+import net.io_0.maja.PropertyIssue;
+import net.io_0.maja.PropertyIssues;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static net.io_0.maja.validation.Validation.invalid;
+import static net.io_0.maja.validation.Validation.valid;
+
+/**
+ * Remembers the issues a validator found per value, so repeated values skip the check.
+ * Issues are kept relative to the property name, so the same value can be validated under different names.
+ * Unassigned and null properties aren't memoized, checking them is cheap anyway.
+ * The cache is a LRU, split into stripes with their own lock, so threads rarely wait on each other.
+ */
+class MemoizedPropertyValidator<T> implements PropertyValidator<T> {
+  static final int STRIPES = 16;
+  static volatile boolean formatsMemoized = false;
+
+  private final PropertyValidator<T> validator;
+  private final BooleanSupplier enabled;
+  private final Stripe[] stripes = new Stripe[STRIPES];
+
+  MemoizedPropertyValidator(PropertyValidator<T> validator, int maxEntries, BooleanSupplier enabled) {
+    if (maxEntries < STRIPES) {
+      throw new IllegalArgumentException("Memoization needs at least " + STRIPES + " entries, was " + maxEntries);
+    }
+    this.validator = validator;
+    this.enabled = enabled;
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe(maxEntries / STRIPES);
+    }
+  }
+
+  @Override
+  public Validation<Property<T>> validate(Property<T> property) {
+    if (!enabled.getAsBoolean() || !property.isAssigned() || property.isNull()) {
+      return validator.validate(property);
+    }
+
+    T value = property.getValue();
+    String name = property.getName();
+    Stripe stripe = stripes[(value.hashCode() & 0x7FFFFFFF) % STRIPES];
+    List<PropertyIssue> relativeIssues = stripe.withLock(() -> stripe.get(value));
+    if (relativeIssues == null) {
+      Validation<Property<T>> validation = validator.validate(property);
+      PropertyIssues propertyIssues = validation.getPropertyIssues();
+      if (propertyIssues.stream().allMatch(propertyIssue -> propertyIssue.getPropertyName().startsWith(name))) {
+        List<PropertyIssue> toRemember = propertyIssues.stream()
+          .map(propertyIssue -> PropertyIssue.of(propertyIssue.getPropertyName().substring(name.length()), propertyIssue.getIssue()))
+          .toList();
+        stripe.withLock(() -> stripe.put(value, toRemember));
+      }
+      return validation;
+    }
+
+    return relativeIssues.isEmpty() ?
+      valid(property) :
+      invalid(PropertyIssues.of(relativeIssues.stream()
+        .map(relativeIssue -> relativeIssue.withPropertyNamePrefix(name))
+        .toArray(PropertyIssue[]::new)
+      ));
+  }
+
+  private static class Stripe extends LinkedHashMap<Object, List<PropertyIssue>> {
+    private final Lock lock = new ReentrantLock();
+    private final int maxEntries;
+
+    private Stripe(int maxEntries) {
+      super(16, 0.75f, true);
+      this.maxEntries = maxEntries;
+    }
+
+    private <R> R withLock(Supplier<R> action) {
+      lock.lock();
+      try {
+        return action.get();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Object, List<PropertyIssue>> eldest) {
+      return size() > maxEntries;
+    }
+  }
+}
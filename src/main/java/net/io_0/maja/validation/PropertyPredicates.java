@@ -1,10 +1,9 @@
 package net.io_0.maja.validation;
 
 import net.io_0.maja.Property;
-import org.apache.commons.validator.routines.*;
-
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.regex.Pattern;
 
 import static net.io_0.maja.validation.PropertyPredicate.not;
 
@@ -54,18 +53,19 @@ public interface PropertyPredicates {
   }
 
   static PropertyPredicate<String> regexMatch(String pattern) {
-    return property -> new RegexValidator(pattern).isValid(property.getValue());
+    Pattern compiled = Pattern.compile(pattern);
+    return property -> compiled.matcher(property.getValue()).matches();
   }
 
-  PropertyPredicate<String> email = property -> EmailValidator.getInstance().isValid(property.getValue());
+  PropertyPredicate<String> email = property -> Formats.isEmail(property.getValue());
 
-  PropertyPredicate<String> hostname = property -> DomainValidator.getInstance().isValid(property.getValue());
+  PropertyPredicate<String> hostname = property -> Formats.isHostname(property.getValue());
 
-  PropertyPredicate<String> inet4Address = property -> InetAddressValidator.getInstance().isValidInet4Address(property.getValue());
+  PropertyPredicate<String> inet4Address = property -> Formats.isInet4Address(property.getValue());
 
-  PropertyPredicate<String> inet6Address = property -> InetAddressValidator.getInstance().isValidInet6Address(property.getValue());
+  PropertyPredicate<String> inet6Address = property -> Formats.isInet6Address(property.getValue());
 
-  PropertyPredicate<String> url = property -> UrlValidator.getInstance().isValid(property.getValue());
+  PropertyPredicate<String> url = property -> Formats.isUrl(property.getValue());
 
   static PropertyPredicate<Number> multipleOf(Number number) {
     return property -> new BigDecimal(property.getValue().toString()).remainder(new BigDecimal(number.toString())).abs().floatValue() < 0.0000001;
@@ -11,12 +11,13 @@ import static net.io_0.maja.validation.Validation.valid;
 
 public interface PropertyValidator<T> extends Validator<Property<T>> {
   static <T> PropertyValidator<T> of(PropertyPredicate<T> predicate, Issue issue) {
-    return property -> predicate.test(property) ?
-      valid(property) :
-      invalid(PropertyIssue.of(
-        property.getName(),
-        issue.withMessage(format(issue.getMessage(), property.isNull() ? null : property.getValue()))
-      ));
+    return property -> {
+      if (predicate.test(property)) {
+        return valid(property);
+      }
+      Object value = property.isNull() ? null : property.getValue();
+      return invalid(PropertyIssue.of(property.getName(), issue.withMessage(() -> format(issue.getMessage(), value))));
+    };
   }
 
   @SafeVarargs
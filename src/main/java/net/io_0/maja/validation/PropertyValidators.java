@@ -15,6 +15,31 @@ import static net.io_0.maja.validation.PropertyValidator.andAll;
 import static net.io_0.maja.validation.Validation.invalid;
 
 public interface PropertyValidators {
+  int FORMAT_MEMO_ENTRIES = 4096;
+
+  /**
+   * Remember the outcome of a validator per value, repeated values skip the check.
+   * Outcomes are kept in a bounded LRU, split into stripes so concurrent validations rarely wait on each other.
+   *
+   * @param validator validator to memoize, must only depend on the property value
+   * @param maxEntries values to remember at most
+   * @return memoizing validator
+   */
+  static <T> PropertyValidator<T> memoized(PropertyValidator<T> validator, int maxEntries) {
+    return new MemoizedPropertyValidator<>(validator, maxEntries, () -> true);
+  }
+
+  /**
+   * Switch memoization of the built in email, hostname, ip and url format validators on or off, it's off by default.
+   */
+  static void memoizeFormats(boolean memoize) {
+    MemoizedPropertyValidator.formatsMemoized = memoize;
+  }
+
+  private static PropertyValidator<String> memoizedFormat(PropertyValidator<String> validator) {
+    return new MemoizedPropertyValidator<>(validator, FORMAT_MEMO_ENTRIES, () -> MemoizedPropertyValidator.formatsMemoized);
+  }
+
   static PropertyValidator<String> pattern(String parameter) {
     return PropertyValidator.of(
       PropertyPredicates.unassignedOrNullOr(PropertyPredicates.regexMatch(parameter)),
@@ -40,30 +65,30 @@ public interface PropertyValidators {
     Issue.of("Byte Format Violation", "Must be base64 format")
   );
 
-  PropertyValidator<String> emailFormat = PropertyValidator.of(
+  PropertyValidator<String> emailFormat = memoizedFormat(PropertyValidator.of(
     PropertyPredicates.unassignedOrNullOr(PropertyPredicates.email),
     Issue.of("Email Format Violation", "Must fit email format")
-  );
+  ));
 
-  PropertyValidator<String> hostnameFormat = PropertyValidator.of(
+  PropertyValidator<String> hostnameFormat = memoizedFormat(PropertyValidator.of(
     PropertyPredicates.unassignedOrNullOr(PropertyPredicates.hostname),
     Issue.of("Hostname Format Violation", "Must fit hostname format")
-  );
+  ));
 
-  PropertyValidator<String> ipV4Format = PropertyValidator.of(
+  PropertyValidator<String> ipV4Format = memoizedFormat(PropertyValidator.of(
     PropertyPredicates.unassignedOrNullOr(PropertyPredicates.inet4Address),
     Issue.of("IP V4 Format Violation", "Must fit IP v4 format")
-  );
+  ));
 
-  PropertyValidator<String> ipV6Format = PropertyValidator.of(
+  PropertyValidator<String> ipV6Format = memoizedFormat(PropertyValidator.of(
     PropertyPredicates.unassignedOrNullOr(PropertyPredicates.inet6Address),
     Issue.of("IP V6 Format Violation", "Must fit IP v6 format")
-  );
+  ));
 
-  PropertyValidator<String> urlFormat = PropertyValidator.of(
+  PropertyValidator<String> urlFormat = memoizedFormat(PropertyValidator.of(
     PropertyPredicates.unassignedOrNullOr(PropertyPredicates.url),
     Issue.of("Url Format Violation", "Must fit url format")
-  );
+  ));
 
   static PropertyValidator<String> maxLength(Integer parameter) {
     return PropertyValidator.of(
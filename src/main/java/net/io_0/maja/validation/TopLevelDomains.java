@@ -0,0 +1,82 @@
+package net.io_0.maja.validation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * The top level domains commons-validator accepts by default, i.e. infrastructure, generic and country code ones,
+ * read once from the bundled tlds.txt into an open addressing table.
+ * Lookups take a range of a String and ignore ASCII case, so checking a hostname's last label allocates nothing.
+ */
+class TopLevelDomains {
+  private static final String RESOURCE = "tlds.txt";
+  private static final String[] TABLE = table(entries());
+  private static final int MASK = TABLE.length - 1;
+
+  private TopLevelDomains() {}
+
+  /**
+   * @param s ASCII characters
+   * @return true if s from (inclusive) to (exclusive) is a known top level domain, in any case
+   */
+  static boolean contains(String s, int from, int to) {
+    int length = to - from;
+    for (int i = hash(s, from, to) & MASK; ; i = (i + 1) & MASK) {
+      String tld = TABLE[i];
+      if (isNull(tld)) {
+        return false;
+      }
+      if (tld.length() == length && tld.regionMatches(true, 0, s, from, length)) {
+        return true;
+      }
+    }
+  }
+
+  private static Set<String> entries() {
+    Set<String> entries = new HashSet<>();
+    try (InputStream in = TopLevelDomains.class.getResourceAsStream(RESOURCE)) {
+      if (isNull(in)) {
+        throw new IllegalStateException(RESOURCE + " is missing");
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+      for (String line = reader.readLine(); nonNull(line); line = reader.readLine()) {
+        if (!line.isBlank() && !line.startsWith("#")) {
+          entries.add(line.strip());
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return entries;
+  }
+
+  private static String[] table(Set<String> entries) {
+    String[] table = new String[Integer.highestOneBit(Math.max(entries.size(), 1) * 4)];
+    for (String entry : entries) {
+      int i = hash(entry, 0, entry.length()) & (table.length - 1);
+      while (nonNull(table[i])) {
+        i = (i + 1) & (table.length - 1);
+      }
+      table[i] = entry;
+    }
+    return table;
+  }
+
+  private static int hash(String s, int from, int to) {
+    int h = 0;
+    for (int i = from; i < to; i++) {
+      char c = s.charAt(i);
+      h = 31 * h + (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c);
+    }
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,68 @@
+package net.io_0.maja.validation;
+
+import net.io_0.maja.metrics.Listener;
+import net.io_0.maja.metrics.Listeners;
+import net.io_0.maja.metrics.Observation;
+import net.io_0.maja.metrics.Operation;
+import net.io_0.maja.metrics.PropertyIssueEvent;
+import net.io_0.maja.metrics.ValidationEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Reports validations to the registered listener, see {@link Listeners}, and to JFR, see {@link ValidationEvent}.
+ * Only the outermost validation on a thread is reported, validators nested e.g. via {@link PropertyValidators#valid(Validator)}
+ * run unobserved, their issues are counted once, as part of the outer validation's.
+ */
+class ValidationObserver {
+  private static final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+  private ValidationObserver() {}
+
+  static <T> Validation<T> observe(Validator<T> validator, T model) {
+    Listener listener = Listeners.current();
+    ValidationEvent event = ValidationEvent.recording() ? new ValidationEvent() : null;
+    if (listener == Listener.NOOP && isNull(event)) {
+      return validator.validate(model);
+    }
+
+    int[] nesting = depth.get();
+    if (nesting[0] > 0) {
+      return validator.validate(model);
+    }
+    nesting[0]++;
+    try {
+      return observe(validator, model, listener, event);
+    } finally {
+      nesting[0]--;
+    }
+  }
+
+  private static <T> Validation<T> observe(Validator<T> validator, T model, Listener listener, ValidationEvent event) {
+    Class<?> type = isNull(model) ? Void.class : model.getClass();
+    Map<String, Integer> issueCounts = new HashMap<>();
+    listener.onStart(Operation.VALIDATION, type, null);
+    if (nonNull(event)) {
+      event.begin();
+    }
+    long start = System.nanoTime();
+    try {
+      Validation<T> validation = validator.validate(model);
+      validation.getPropertyIssues().forEach(propertyIssue -> {
+        issueCounts.merge(propertyIssue.getIssue().getCode(), 1, Integer::sum);
+        PropertyIssueEvent.record(type, propertyIssue);
+      });
+      return validation;
+    } finally {
+      long duration = System.nanoTime() - start;
+      if (nonNull(event)) {
+        event.record(type, issueCounts.values().stream().mapToInt(Integer::intValue).sum());
+      }
+      listener.onEnd(Observation.of(Operation.VALIDATION, type, null, -1, duration, issueCounts));
+    }
+  }
+}
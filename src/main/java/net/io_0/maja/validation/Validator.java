@@ -1,6 +1,5 @@
 package net.io_0.maja.validation;
 
-import lombok.Getter;
 import net.io_0.maja.PropertyIssues;
 import net.io_0.maja.validation.Validation.Invalid;
 import java.util.Arrays;
@@ -8,23 +7,25 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 
 @FunctionalInterface
 public interface Validator<T> {
   Validation<T> validate(T t);
 
   static <T> Validator<T> of(PropertyIssues propertyIssues) {
-    return model -> Validation.of(model, propertyIssues);
+    return model -> ValidationObserver.observe(m -> Validation.of(m, propertyIssues), model);
   }
 
   static <T> Validator<T> of(NameBoundPropertyConstraint<?>... nameBoundPropertyConstraints) {
-    return model -> Arrays.stream(nameBoundPropertyConstraints)
+    Validator<T> validator = model -> Arrays.stream(nameBoundPropertyConstraints)
       .map(nameBoundPropertyConstraint -> nameBoundPropertyConstraint.apply(model))
       .map(PropertyConstraint::check)
       .filter(Validation::isInvalid)
       .reduce(Validation::and)
       .map(validation -> Validation.of(model, validation.getPropertyIssues()))
       .orElse(Validation.valid(model));
+    return model -> ValidationObserver.observe(validator, model);
   }
 
   default T ensureValidity(T t) {
@@ -40,20 +41,47 @@ public interface Validator<T> {
     return u -> this.validate(u).and(((Validator<U>) other).validate(u));
   }
 
-  @Getter
+  /**
+   * Messages are rendered on the first {@link #getMessage()} call, routinely rejected input stays cheap.
+   * Stack traces can be skipped altogether, see {@link #stackless(boolean)}.
+   */
   @SuppressWarnings("rawtypes")
   class ValidationException extends RuntimeException {
+    private static volatile boolean stackless = false;
+
     private final Invalid validation;
+    private String message;
 
     public ValidationException(Invalid validation) {
-      super(toFullMessage(validation.getPropertyIssues().stream()
-        .map(propertyIssue -> format("%s -> %s", propertyIssue.getPropertyName(), propertyIssue.getIssue()))
-        .collect(Collectors.joining(", "))
-      ));
-
+      super(null, null, true, !stackless);
       this.validation = validation;
     }
 
+    /**
+     * Applies to all ValidationExceptions created afterwards, process wide, not only to the caller's validations.
+     * Meant to be set once on startup, e.g. by services where invalid input is routine.
+     *
+     * @param enabled true to create ValidationExceptions without stack traces from now on
+     */
+    public static void stackless(boolean enabled) {
+      stackless = enabled;
+    }
+
+    public Invalid getValidation() {
+      return validation;
+    }
+
+    @Override
+    public String getMessage() {
+      if (isNull(message)) {
+        message = toFullMessage(validation.getPropertyIssues().stream()
+          .map(propertyIssue -> format("%s -> %s", propertyIssue.getPropertyName(), propertyIssue.getIssue()))
+          .collect(Collectors.joining(", "))
+        );
+      }
+      return message;
+    }
+
     private static String toFullMessage(String issues) {
       return issues.isBlank() ? "Validation failed." : "Validation failed. Issues: " + issues;
     }
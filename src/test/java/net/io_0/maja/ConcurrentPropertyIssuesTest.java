@@ -0,0 +1,123 @@
+package net.io_0.maja;
+
+import net.io_0.maja.PropertyIssue.Issue;
+import net.io_0.maja.mapping.Mapper;
+import net.io_0.maja.models.DeepFlawed;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static net.io_0.maja.TestUtils.resourceAsString;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a property issues API consumer
+ *
+ *   I want to collect issues from many threads at once
+ *   so that sub documents can be mapped in parallel
+ *
+ *   and I want the same order of issues no matter which thread was first
+ *   so that reports are reproducible
+ */
+class ConcurrentPropertyIssuesTest {
+  /**
+   * Scenario: Issues of sub documents mapped in parallel should all be collected, ordered by path
+   */
+  @Test
+  void collectInParallel() throws InterruptedException {
+    // Given flawed sub documents
+    String json = resourceAsString("DeepFlawed.json");
+    PropertyIssues expected = PropertyIssues.of();
+    Mapper.fromJson(json, expected::add, DeepFlawed.class);
+
+    // When they are mapped in parallel
+    ConcurrentPropertyIssues propertyIssues = ConcurrentPropertyIssues.of();
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      IntStream.range(0, 12).forEach(i -> executor.execute(() ->
+        Mapper.fromJson(json, propertyIssues.withPropertyNamePrefix("docs." + i + "."), DeepFlawed.class)
+      ));
+    }
+
+    // Then all issues should be collected
+    PropertyIssues collected = propertyIssues.toPropertyIssues();
+    assertEquals(12 * expected.size(), collected.size());
+    assertEquals(expected.size(), collected.under("docs.10").size());
+
+    // And be ordered by path
+    assertTrue(collected.get(0).getPropertyName().startsWith("docs.0."));
+    assertTrue(collected.get(collected.size() - 1).getPropertyName().startsWith("docs.11."));
+    for (int i = 1; i < collected.size(); i++) {
+      assertTrue(ConcurrentPropertyIssues.BY_PATH.compare(collected.get(i - 1), collected.get(i)) <= 0);
+    }
+  }
+
+  /**
+   * Scenario: Paths should be ordered segment by segment, numbers by their value
+   */
+  @Test
+  void orderByPath() {
+    // Given issues in random order
+    ConcurrentPropertyIssues propertyIssues = ConcurrentPropertyIssues.of();
+    List.of("pojos.10", "pojos.2.name", "pojos", "name", "pojos.2", "pojos.a", "pojos.02", "pojos.2.id")
+      .forEach(name -> propertyIssues.accept(PropertyIssue.of(name, "code", "issue")));
+
+    // When they are merged
+    List<String> names = propertyIssues.toPropertyIssues().stream().map(PropertyIssue::getPropertyName).toList();
+
+    // Then they should be ordered by path
+    assertEquals(List.of("name", "pojos", "pojos.2", "pojos.2.id", "pojos.2.name", "pojos.10", "pojos.02", "pojos.a"), names);
+    assertFalse(propertyIssues.isEmpty());
+    assertTrue(ConcurrentPropertyIssues.of().isEmpty());
+  }
+
+  /**
+   * Scenario: Merging should keep issues of the same path and code in the order they were found, without rendering messages
+   */
+  @Test
+  void orderWithoutMessages() {
+    // Given issues with the same path and code and lazily rendered messages
+    AtomicInteger rendered = new AtomicInteger();
+    ConcurrentPropertyIssues propertyIssues = ConcurrentPropertyIssues.of();
+    List.of("second", "first", "third").forEach(message -> propertyIssues.accept(PropertyIssue.of("name", Issue.of("code", () -> {
+      rendered.incrementAndGet();
+      return message;
+    }))));
+
+    // When they are merged
+    PropertyIssues merged = propertyIssues.toPropertyIssues();
+
+    // Then no message should have been rendered
+    assertEquals(0, rendered.get());
+
+    // And they should be in the order they were found
+    assertEquals(List.of("second", "first", "third"), merged.stream().map(propertyIssue -> propertyIssue.getIssue().getMessage()).toList());
+  }
+
+  /**
+   * Scenario: Issues of the same path and code collected by different threads should be merged in the order they were collected
+   */
+  @Test
+  void orderAcrossThreads() throws InterruptedException {
+    // Given issues with the same path and code, collected one after another by different threads
+    ConcurrentPropertyIssues propertyIssues = ConcurrentPropertyIssues.of();
+    List<String> messages = new ArrayList<>();
+    for (int i = 0; i < ConcurrentPropertyIssues.STRIPES * 2; i++) {
+      String message = "issue" + i;
+      messages.add(message);
+      Thread thread = new Thread(() -> propertyIssues.accept(PropertyIssue.of("name", "code", message)));
+      thread.start();
+      thread.join();
+    }
+
+    // When they are merged
+    PropertyIssues merged = propertyIssues.toPropertyIssues();
+
+    // Then they should be in the order they were collected, whichever stripe they went to
+    assertEquals(messages, merged.stream().map(propertyIssue -> propertyIssue.getIssue().getMessage()).toList());
+  }
+}
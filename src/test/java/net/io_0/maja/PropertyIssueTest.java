@@ -70,6 +70,30 @@ class PropertyIssueTest {
     assertEquals("PropertyIssue(propertyName=obj.name, issue=Issue(code=code, message=issue))", pI.toString());
   }
 
+  /**
+   * Scenario: A supplied issue message should only be rendered once it is read
+   */
+  @Test
+  void lazyMessage() {
+    // Given an issue with a supplied message
+    int[] renderings = { 0 };
+    Issue issue = Issue.of(errorCode, () -> {
+      renderings[0]++;
+      return errorMessage;
+    });
+
+    // When it is passed around
+    PropertyIssue pI = PropertyIssue.of(propertyName, issue).withPropertyNamePrefix("obj.");
+
+    // Then the message should not be rendered
+    assertEquals(0, renderings[0]);
+
+    // And once it is read it should be rendered only once
+    assertEquals(errorMessage, pI.getIssue().getMessage());
+    assertEquals("PropertyIssue(propertyName=obj.name, issue=Issue(code=code, message=issue))", pI.toString());
+    assertEquals(1, renderings[0]);
+  }
+
   private static String errorCode = "code";
   private static String errorMessage = "issue";
   private static String propertyName = "name";
@@ -1,8 +1,12 @@
 package net.io_0.maja;
 
+import net.io_0.maja.PropertyIssue.Issue;
 import org.junit.jupiter.api.Test;
+import java.util.ListIterator;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -10,6 +14,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  *   As a property issues API consumer
  *
  *   I want convenient ways to create them
+ *
+ *   and I want to look them up by property path and code
+ *   so that large sets of issues can be mapped to errors cheaply
  */
 class PropertyIssuesTest {
   /**
@@ -64,6 +71,63 @@ class PropertyIssuesTest {
     );
   }
 
+  /**
+   * Scenario: Issues should be found by property name, path prefix and code
+   */
+  @Test
+  void lookupByPathAndCode() {
+    // Given property issues
+    PropertyIssues pIs = PropertyIssues.of(
+      PropertyIssue.of("pojos.3.name", errorCode + "1", errorMessage + "1"),
+      PropertyIssue.of("pojos.30", errorCode + "2", errorMessage + "2"),
+      PropertyIssue.of("pojos.3", errorCode + "1", errorMessage + "3")
+    );
+
+    // When more issues are added after a lookup
+    assertTrue(pIs.containsPropertyName("pojos.30"));
+    pIs.add(PropertyIssue.of("pojos.3.tags.0", errorCode + "2", errorMessage + "4"));
+    pIs.add(0, PropertyIssue.of("name", errorCode + "1", errorMessage + "5"));
+
+    // Then they should be found by property name
+    assertFalse(pIs.containsPropertyName("pojos"));
+    assertTrue(pIs.containsPropertyName("pojos.3.tags.0"));
+    assertEquals(errorMessage + "3", pIs.getPropertyIssue("pojos.3").map(Issue::getMessage).orElse(null));
+    assertEquals(Optional.empty(), pIs.getPropertyIssue("pojos.4"));
+
+    // And by path prefix, in the order they were added
+    assertEquals(
+      "pojos.3.name -> code1 (issue1); " +
+      "pojos.3 -> code1 (issue3); " +
+      "pojos.3.tags.0 -> code2 (issue4)",
+      pIs.under("pojos.3").toString()
+    );
+    assertEquals(4, pIs.under("pojos").size());
+    assertTrue(pIs.under("pojo").isEmpty());
+
+    // And by code
+    assertEquals("pojos.30 -> code2 (issue2); pojos.3.tags.0 -> code2 (issue4)", pIs.withCode(errorCode + "2").toString());
+
+    // And replaced issues should be noticed
+    pIs.set(2, PropertyIssue.of("other", errorCode + "3", errorMessage + "6"));
+    assertFalse(pIs.containsPropertyName("pojos.30"));
+    assertEquals(1, pIs.withCode(errorCode + "3").size());
+    ListIterator<PropertyIssue> iterator = pIs.listIterator(2);
+    iterator.next();
+    iterator.set(PropertyIssue.of("pojos.30", errorCode + "2", errorMessage + "2"));
+    iterator.next();
+    assertTrue(pIs.containsPropertyName("pojos.30"));
+    assertFalse(pIs.containsPropertyName("other"));
+
+    // And so should issues replaced through a sub list
+    pIs.subList(1, 3).set(1, PropertyIssue.of("pojos.3.name", errorCode + "3", errorMessage + "7"));
+    assertFalse(pIs.containsPropertyName("pojos.30"));
+    assertEquals("pojos.3.name -> code3 (issue7)", pIs.withCode(errorCode + "3").toString());
+    assertEquals(
+      "pojos.3.name -> code1 (issue1); pojos.3.name -> code3 (issue7); pojos.3 -> code1 (issue3); pojos.3.tags.0 -> code2 (issue4)",
+      pIs.under("pojos").toString()
+    );
+  }
+
   private static String errorCode = "code";
   private static String errorMessage = "issue";
   private static String propertyName = "name";
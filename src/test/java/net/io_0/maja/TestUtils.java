@@ -8,6 +8,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
@@ -34,6 +35,14 @@ public class TestUtils {
     }
   }
 
+  public static Path resourceAsPath(String name) {
+    try {
+      return Paths.get(TestUtils.class.getClassLoader().getResource(name).toURI());
+    } catch (NullPointerException | URISyntaxException e) {
+      throw new IllegalArgumentException("Can't load resource '" + name + "'");
+    }
+  }
+
   public static <U, T extends Collection<U>> void assertCollectionEquals(T expected, T actual) {
     assertTrue(CollectionUtils.isEqualCollection(expected, actual));
   }
@@ -0,0 +1,84 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.mapping.Mapper.Context;
+import net.io_0.maja.models.DeepFlawed;
+import net.io_0.maja.models.Person;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static net.io_0.maja.TestUtils.resourceAsString;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a message processing API consumer
+ *
+ *   I want to map many small documents at once, in parallel
+ *   so that queues are processed using all cores
+ *
+ *   and I want results and issues per document in input order
+ *   so that I can answer each message
+ */
+class BatchTests {
+  /**
+   * Scenario: JSON documents should be mapped in parallel, in input order, with issues per document
+   */
+  @Test
+  void fromJsonBatch() {
+    // Given many documents, some malformed
+    List<byte[]> jsons = IntStream.range(0, 1000)
+      .mapToObj(i -> i % 100 == 13 ? "{ \"first name\": " : "{ \"first name\": \"Maja " + i + "\" }")
+      .map(json -> json.getBytes(StandardCharsets.UTF_8))
+      .toList();
+
+    // When they are mapped as batch
+    Batch<Person> batch = Mapper.fromJsonBatch(jsons, Person.class, Context.of());
+
+    // Then the values should be in input order
+    assertEquals(1000, batch.getValues().size());
+    assertEquals("Maja 0", batch.getValues().get(0).getFirstName());
+    assertEquals("Maja 999", batch.getValues().get(999).getFirstName());
+
+    // And the issues should be reported per document
+    assertTrue(batch.hasIssues());
+    assertTrue(batch.getPropertyIssues().get(0).isEmpty());
+    assertNull(batch.getValues().get(13));
+    assertEquals("Malformed Document", batch.getPropertyIssues().get(113).get(0).getIssue().getCode());
+    assertEquals(10, batch.getPropertyIssues().stream().filter(issues -> !issues.isEmpty()).count());
+
+    // And the throughput should be reported
+    assertEquals(jsons.stream().mapToLong(json -> json.length).sum(), batch.getSize());
+    assertTrue(batch.getDocumentsPerSecond() > 0);
+    assertTrue(batch.getBytesPerSecond() > 0);
+  }
+
+  /**
+   * Scenario: Batches should be mappable on any executor, e.g. virtual threads, and from Maps
+   */
+  @Test
+  void fromMapBatchOnVirtualThreads() {
+    // Given flawed documents as Maps
+    @SuppressWarnings("unchecked")
+    Map<String, Object> flawed = Mapper.fromJson(resourceAsString("DeepFlawed.json"), Map.class, String.class, Object.class);
+    List<Map<String, Object>> maps = IntStream.range(0, 50).mapToObj(i -> flawed).toList();
+
+    // When they are mapped as batch on virtual threads
+    Batch<DeepFlawed> batch;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      batch = Mapper.fromMapBatch(maps, DeepFlawed.class, Context.of(), executor);
+    }
+
+    // Then each document should get the same issues
+    assertEquals(50, batch.getValues().size());
+    assertEquals(-1, batch.getSize());
+    batch.getPropertyIssues().forEach(issues ->
+      assertEquals(batch.getPropertyIssues().get(0).toString(), issues.toString())
+    );
+    assertTrue(batch.getPropertyIssues().get(49).containsPropertyName("objectToPojo.stringToUUID"));
+  }
+}
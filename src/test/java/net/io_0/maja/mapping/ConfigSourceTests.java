@@ -0,0 +1,111 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.models.Person;
+import net.io_0.maja.validation.Validator;
+import net.io_0.maja.validators.PersonValidator;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a configuration file API consumer
+ *
+ *   I want configuration files to be mapped and validated again only if they changed
+ *   so that frequent reloads are cheap
+ *
+ *   and I want a failed reload to keep the previous configuration
+ *   so that a broken file doesn't break a running service
+ */
+class ConfigSourceTests {
+  /**
+   * Scenario: Passing problematic data should end in an exception
+   */
+  @Test
+  void loadNothing() {
+    assertThrows(Mapper.MappingException.class, () -> ConfigSource.of(Path.of("does-not-exist.json"), Person.class));
+  }
+
+  /**
+   * Scenario: A configuration file should only be mapped again if its content changed
+   */
+  @Test
+  void reloadOnlyChanged() throws IOException {
+    // Given a configuration file
+    Path path = Files.createTempFile("person", ".json");
+    Files.writeString(path, "{ \"first name\": \"Maja\", \"lastName\": \"Doe\" }");
+
+    // When it is loaded
+    try (ConfigSource<Person> source = ConfigSource.of(path, Person.class, PersonValidator.instance)) {
+      Person person = source.get();
+
+      // Then the data should be present
+      assertEquals("Maja", person.getFirstName());
+
+      // And unchanged content shouldn't be mapped again
+      Files.writeString(path, "{ \"first name\": \"Maja\", \"lastName\": \"Doe\" }");
+      assertFalse(source.reload());
+      assertSame(person, source.get());
+
+      // And changed content should be published
+      Files.writeString(path, "{ \"first name\": \"Mia\", \"lastName\": \"Doe\" }");
+      assertTrue(source.reload());
+      assertEquals("Mia", source.get().getFirstName());
+
+      // And invalid content should keep the previous value
+      Files.writeString(path, "{ \"first name\": \"M\" }");
+      assertThrows(Validator.ValidationException.class, source::reload);
+      assertEquals("Mia", source.get().getFirstName());
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  /**
+   * Scenario: An invalid configuration file should fail every reload until it is fixed
+   */
+  @Test
+  void reloadInvalidTwice() throws IOException {
+    // Given a loaded configuration file
+    Path path = Files.createTempFile("person", ".json");
+    Files.writeString(path, "{ \"first name\": \"Maja\", \"lastName\": \"Doe\" }");
+
+    try (ConfigSource<Person> source = ConfigSource.of(path, Person.class, PersonValidator.instance)) {
+      // When it becomes invalid
+      Files.writeString(path, "{ \"first name\": \"M\" }");
+
+      // Then every reload should fail
+      assertThrows(Validator.ValidationException.class, source::reload);
+      assertThrows(Validator.ValidationException.class, source::reload);
+      assertEquals("Maja", source.get().getFirstName());
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  /**
+   * Scenario: A watched configuration file should be reloaded on changes
+   */
+  @Test
+  void reloadWatched() throws IOException, InterruptedException {
+    // Given a watched configuration file
+    Path path = Files.createTempFile("person", ".json");
+    Files.writeString(path, "{ \"first name\": \"Maja\" }");
+
+    try (ConfigSource<Person> source = ConfigSource.of(path, Person.class).watch()) {
+      // When it changes
+      Files.writeString(path, "{ \"first name\": \"Mia\" }");
+
+      // Then the change should be published
+      for (int i = 0; i < 100 && !"Mia".equals(source.get().getFirstName()); i++) {
+        Thread.sleep(100);
+      }
+      assertEquals("Mia", source.get().getFirstName());
+    } finally {
+      Files.delete(path);
+    }
+  }
+}
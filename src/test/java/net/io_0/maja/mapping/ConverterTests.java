@@ -0,0 +1,117 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.models.IntegerBundle;
+import net.io_0.maja.models.Named;
+import net.io_0.maja.models.NamedBundle;
+import net.io_0.maja.models.NamedBundlePojo;
+import net.io_0.maja.models.StringBundle;
+import org.junit.jupiter.api.Test;
+
+import static net.io_0.maja.models.NamedBundle.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a mapping API consumer
+ *
+ *   I want to convert between types with matching property names directly
+ *   so that I don't need toMap and fromMap in between
+ *
+ *   and I want absent and null to keep their meaning
+ *   so that converted PropertyBundles serialize correctly
+ *
+ *   and I want types that don't fit to be reported once, when the converter is created
+ *   so that converting itself can't fail on them
+ */
+class ConverterTests {
+  /**
+   * Scenario: Converting nothing should result in nothing
+   */
+  @Test
+  void convertNothing() {
+    assertNull(Mapper.converter(Named.class, NamedBundle.class).convert(null));
+  }
+
+  /**
+   * Scenario: A POJO should be converted to a PropertyBundle, with unconventional names matched
+   */
+  @Test
+  void convertPojoToPropertyBundle() {
+    // Given a POJO with a null
+    Named source = Named.builder().aSpecialName(1).BSpecialName(2).MaJa(null).caJa(4).build();
+
+    // When it is converted
+    NamedBundle target = Mapper.converter(Named.class, NamedBundle.class).convert(source);
+
+    // Then the values should be present
+    assertEquals(1, target.getASpecialName());
+    assertEquals(2, target.getBSpecialName());
+    assertNull(target.getMaJa());
+    assertEquals(4, target.getCaJa());
+
+    // And every POJO property should count as set, properties the POJO lacks as absent
+    assertTrue(target.isPropertySet(A_SPECIAL_NAME));
+    assertTrue(target.isPropertySet(B_SPECIAL_NAME));
+    assertTrue(target.isPropertySet(MA_JA));
+    assertTrue(target.isPropertySet(CA_JA));
+    assertFalse(target.isPropertySet(FIRST_UPPER));
+  }
+
+  /**
+   * Scenario: Only set PropertyBundle properties should be converted
+   */
+  @Test
+  void convertPropertyBundle() {
+    // Given a PropertyBundle with a value, an explicit null and absent properties
+    NamedBundle source = new NamedBundle().setASpecialName(1).setMaJa(null).setFirstUpper("x");
+    Converter<NamedBundle, NamedBundle> toBundle = Mapper.converter(NamedBundle.class, NamedBundle.class);
+    Converter<NamedBundle, NamedBundlePojo> toPojo = Mapper.converter(NamedBundle.class, NamedBundlePojo.class);
+
+    // When it is converted
+    NamedBundle bundle = toBundle.convert(source);
+    NamedBundlePojo pojo = toPojo.convert(source);
+
+    // Then the markers should be the same
+    assertNotSame(source, bundle);
+    assertTrue(bundle.isPropertySet(A_SPECIAL_NAME));
+    assertTrue(bundle.isPropertySet(MA_JA));
+    assertTrue(bundle.isPropertySet(FIRST_UPPER));
+    assertFalse(bundle.isPropertySet(B_SPECIAL_NAME));
+    assertFalse(bundle.isPropertySet(CA_JA));
+
+    // And the values should be present
+    assertEquals(1, bundle.getASpecialName());
+    assertEquals("x", bundle.getFirstUpper());
+    assertEquals(1, pojo.getASpecialName());
+    assertEquals("x", pojo.getFirstUpper());
+    assertNull(pojo.getBSpecialName());
+  }
+
+  /**
+   * Scenario: Types that don't fit should be reported when the converter is created
+   */
+  @Test
+  void convertMismatchingTypes() {
+    // Given types with the same property names, but different property types
+    PropertyIssues propertyIssues = PropertyIssues.of();
+
+    // When a converter is created
+    assertThrows(Mapper.MappingException.class, () -> Mapper.converter(StringBundle.class, IntegerBundle.class));
+    Converter<StringBundle, IntegerBundle> converter = Mapper.converter(StringBundle.class, IntegerBundle.class, propertyIssues::add);
+
+    // Then the mismatches should be reported
+    assertEquals(4, propertyIssues.size());
+    assertTrue(propertyIssues.stream().allMatch(propertyIssue -> Converter.TYPE_MISMATCH.equals(propertyIssue.getIssue().getCode())));
+    assertTrue(propertyIssues.containsPropertyName("one"));
+    assertEquals(
+      "java.lang.String can't be assigned to java.lang.Integer",
+      propertyIssues.getPropertyIssue("one").orElseThrow().getMessage()
+    );
+
+    // And those properties should be skipped
+    IntegerBundle target = converter.convert(new StringBundle().setOne("1"));
+    assertNull(target.getOne());
+    assertFalse(target.isPropertySet(IntegerBundle.ONE));
+  }
+}
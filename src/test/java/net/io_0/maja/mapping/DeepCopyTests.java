@@ -0,0 +1,119 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.models.Deep;
+import net.io_0.maja.models.Nested;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.util.*;
+
+import static net.io_0.maja.models.Nested.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a mapping API consumer
+ *
+ *   I want to copy objects without writing and mapping them again
+ *   so that copies are cheap
+ *
+ *   and I want absent and null to keep their meaning
+ *   so that copied PropertyBundles serialize like the originals
+ */
+class DeepCopyTests {
+  /**
+   * Scenario: Copying nothing should result in nothing
+   */
+  @Test
+  void deepCopyNothing() {
+    assertNull(Mapper.deepCopy(null));
+  }
+
+  /**
+   * Scenario: A PropertyBundle copy should have the same properties set
+   */
+  @Test
+  void deepCopyPropertyBundle() {
+    // Given a PropertyBundle with a value, an explicit null and absent properties
+    Nested original = new Nested()
+      .setStringToUUID(UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6"))
+      .setNumberToBigDecimal(null)
+      .setStringArrayToStringList(new ArrayList<>(List.of("a", "b")));
+
+    // When it is copied
+    Nested copy = Mapper.deepCopy(original);
+
+    // Then values should be equal
+    assertNotSame(original, copy);
+    assertEquals(original, copy);
+
+    // And the markers should be the same
+    assertTrue(copy.isPropertySet(STRING_TO_UUID));
+    assertTrue(copy.isPropertySet(NUMBER_TO_BIG_DECIMAL));
+    assertTrue(copy.isPropertySet(STRING_ARRAY_TO_STRING_LIST));
+    assertFalse(copy.isPropertySet(NUMBER_ARRAY_TO_INTEGER_SET));
+    assertFalse(copy.isPropertySet(BOOLEAN_TO_BOOLEAN));
+
+    // And immutable values should be shared, mutable ones copied
+    assertSame(original.getStringToUUID(), copy.getStringToUUID());
+    assertNotSame(original.getStringArrayToStringList(), copy.getStringArrayToStringList());
+    assertInstanceOf(ArrayList.class, copy.getStringArrayToStringList());
+  }
+
+  /**
+   * Scenario: Nested beans, collections and maps should be copied deeply
+   */
+  @Test
+  void deepCopyNested() {
+    // Given a bean with nested PropertyBundles in collections and maps
+    Nested nested = new Nested().setNumberToBigDecimal(BigDecimal.TEN).setNumberArrayToIntegerSet(new TreeSet<>(Set.of(3, 1, 2)));
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("nested", nested);
+    map.put("list", List.of(1, 2));
+    Deep original = Deep.builder()
+      .objectToPojo(nested)
+      .objectToMap(map)
+      .objectArrayToObjectList(List.of(nested))
+      .objectArrayToObjectSet(new HashSet<>(Set.of(new Nested().setBooleanToBoolean(true))))
+      .build();
+
+    // When it is copied
+    Deep copy = Mapper.deepCopy(original);
+
+    // Then nothing mutable should be shared
+    assertNotSame(original.getObjectToPojo(), copy.getObjectToPojo());
+    assertNotSame(original.getObjectToMap(), copy.getObjectToMap());
+    assertNotSame(original.getObjectToPojo().getNumberArrayToIntegerSet(), copy.getObjectToPojo().getNumberArrayToIntegerSet());
+    assertInstanceOf(TreeSet.class, copy.getObjectToPojo().getNumberArrayToIntegerSet());
+    assertInstanceOf(LinkedHashMap.class, copy.getObjectToMap());
+
+    // And values should be equal
+    assertEquals(original.getObjectToPojo(), copy.getObjectToPojo());
+    assertEquals(original.getObjectToMap(), copy.getObjectToMap());
+    assertEquals(original.getObjectArrayToObjectList(), copy.getObjectArrayToObjectList());
+    assertEquals(original.getObjectArrayToObjectSet(), copy.getObjectArrayToObjectSet());
+
+    // And the same instance should be copied once
+    assertSame(copy.getObjectToPojo(), copy.getObjectToMap().get("nested"));
+    assertSame(copy.getObjectToPojo(), copy.getObjectArrayToObjectList().get(0));
+  }
+
+  /**
+   * Scenario: Cycles should be kept in the copy
+   */
+  @Test
+  void deepCopyCycle() {
+    // Given a map containing itself
+    Map<String, Object> original = new HashMap<>();
+    original.put("self", original);
+    original.put("values", new int[] { 1, 2 });
+
+    // When it is copied
+    Map<String, Object> copy = Mapper.deepCopy(original);
+
+    // Then the copy should contain itself
+    assertNotSame(original, copy);
+    assertSame(copy, copy.get("self"));
+    assertArrayEquals(new int[] { 1, 2 }, (int[]) copy.get("values"));
+    assertNotSame(original.get("values"), copy.get("values"));
+  }
+}
@@ -0,0 +1,92 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.models.Nested;
+import net.io_0.maja.models.StringEnum;
+import net.io_0.maja.models.Validatable;
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a diff API consumer
+ *
+ *   I want the changes between two versions of an object as RFC 7386 - JSON Merge Patch
+ *   so that I only need to transfer what changed
+ */
+class DiffTests {
+  /**
+   * Scenario: Passing problematic data should end in an exception
+   */
+  @Test
+  void diffNothing() {
+    assertThrows(Mapper.MappingException.class, () -> Mapper.diff(null, new Nested()));
+    assertThrows(Mapper.MappingException.class, () -> Mapper.diff("a", "b"));
+  }
+
+  /**
+   * Scenario: Equal objects should result in an empty patch
+   */
+  @Test
+  void diffEqual() throws JSONException {
+    // Given two equal objects
+    Validatable before = new Validatable().setPojo(new Nested().setNumberToBigDecimal(BigDecimal.ONE)).setNumberList(List.of(1, 2));
+    Validatable after = new Validatable().setPojo(new Nested().setNumberToBigDecimal(new BigDecimal("1.0"))).setNumberList(List.of(1, 2));
+
+    // When they are compared
+    String patch = Mapper.diff(before, after);
+
+    // Then the patch should be empty
+    JSONAssert.assertEquals("{}", patch, JSONCompareMode.NON_EXTENSIBLE);
+  }
+
+  /**
+   * Scenario: Only changed properties should be part of the patch, nested objects should be descended into
+   */
+  @Test
+  void diffDeep() throws JSONException {
+    // Given two versions of an object
+    Validatable before = new Validatable()
+      .setNotNull("unchanged")
+      .setRequired("removed")
+      .setPojo(new Nested().setNumberToBigDecimal(BigDecimal.ONE).setBooleanToBoolean(true))
+      .setEnumMap(new HashMap<>(Map.of("a", StringEnum.STR1, "b", StringEnum.STR2)))
+      .setPojos(List.of(new Nested().setNumberToBigDecimal(BigDecimal.ONE)))
+      .setPojoMap(Map.of("x", new Nested().setNumberToBigDecimal(BigDecimal.ONE)));
+    Validatable after = new Validatable()
+      .setNotNull("unchanged")
+      .setPojo(new Nested().setNumberToBigDecimal(BigDecimal.TEN).setBooleanToBoolean(true))
+      .setEnumMap(Map.of("b", StringEnum.STR2, "c", StringEnum.STR3))
+      .setPojos(List.of(new Nested().setNumberToBigDecimal(BigDecimal.TEN)))
+      .setPojoMap(Map.of("x", new Nested().setNumberToBigDecimal(BigDecimal.ONE)))
+      .setNumberList(List.of(1));
+
+    // When they are compared
+    String patch = Mapper.diff(before, after);
+    StringWriter writer = new StringWriter();
+    Mapper.writeDiff(writer, before, after);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    Mapper.writeDiff(outputStream, before, after);
+
+    // Then the patch should only contain the changes
+    String reference = "{ \"required\": null, \"pojo\": { \"numberToBigDecimal\": 10 }, \"enumMap\": { \"a\": null, \"c\": \"STR3\" }, " +
+      "\"pojos\": [{ \"numberToBigDecimal\": 10 }], \"numberList\": [1] }";
+    JSONAssert.assertEquals(reference, patch, JSONCompareMode.NON_EXTENSIBLE);
+    JSONAssert.assertEquals(reference, writer.toString(), JSONCompareMode.NON_EXTENSIBLE);
+    JSONAssert.assertEquals(reference, outputStream.toString(StandardCharsets.UTF_8), JSONCompareMode.NON_EXTENSIBLE);
+
+    // And applying it should turn before into after
+    Validatable patched = Mapper.mergePatch(before, patch);
+    JSONAssert.assertEquals(Mapper.toJson(after), Mapper.toJson(patched), JSONCompareMode.NON_EXTENSIBLE);
+  }
+}
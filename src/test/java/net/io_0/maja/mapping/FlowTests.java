@@ -0,0 +1,350 @@
+package net.io_0.maja.mapping;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.models.DeepFlawed;
+import net.io_0.maja.models.Person;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static net.io_0.maja.TestUtils.resourceAsString;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a reactive service developer
+ *
+ *   I want to decode a published JSON array into its elements and encode elements into a published JSON array
+ *   so that payloads never need to be buffered whole
+ *
+ *   and I want the processors to follow the Reactive Streams rules, in particular to honour demand
+ *   so that they can be combined with any java.util.concurrent.Flow implementation
+ */
+class FlowTests {
+  /**
+   * Scenario: Elements should be decoded in order, whatever the chunk boundaries are
+   */
+  @Test
+  void decode() {
+    // Given a JSON array published in small chunks
+    String json = IntStream.range(0, 100)
+      .mapToObj(i -> "{ \"first name\": \"Maja " + i + "\", \"lastName\": \"ä,]\\\"\" }")
+      .collect(Collectors.joining(", ", "[", "]"));
+    ChunkPublisher chunks = ChunkPublisher.of(json, 7);
+
+    // When it is decoded
+    Recorder<Person> recorder = Recorder.requesting(Long.MAX_VALUE);
+    Flow.Processor<ByteBuffer, Person> decoder = Mapper.newJsonArrayDecoder(Person.class);
+    chunks.subscribe(decoder);
+    decoder.subscribe(recorder);
+
+    // Then all elements should arrive in order, followed by completion
+    assertTrue(recorder.completed);
+    assertNull(recorder.error);
+    assertEquals(100, recorder.items.size());
+    assertEquals("Maja 99", recorder.items.get(99).getFirstName());
+    assertEquals("ä,]\"", recorder.items.get(0).getLastName());
+  }
+
+  /**
+   * Scenario: No more elements than requested should be signaled, and chunks only be requested while elements are demanded (rules 1.1, 2.1)
+   */
+  @Test
+  void honourDemand() {
+    // Given a JSON array with one element per chunk
+    ChunkPublisher chunks = ChunkPublisher.of("[1,2,3,4,5]", 2);
+    Recorder<Integer> recorder = Recorder.requesting(2);
+    Flow.Processor<ByteBuffer, Integer> decoder = Mapper.newJsonArrayDecoder(Integer.class);
+    chunks.subscribe(decoder);
+
+    // When two elements are requested
+    decoder.subscribe(recorder);
+
+    // Then exactly two should arrive, without completion, and no further chunks should be requested
+    assertEquals(List.of(1, 2), recorder.items);
+    assertFalse(recorder.completed);
+    assertEquals(3, chunks.requested.get());
+
+    // And the rest should arrive once requested
+    recorder.subscription.request(10);
+    assertEquals(List.of(1, 2, 3, 4, 5), recorder.items);
+    assertTrue(recorder.completed);
+  }
+
+  /**
+   * Scenario: Issues should be reported per element, tagged by index, or end the flow if there is no issue consumer
+   */
+  @Test
+  void decodeFlawed() {
+    // Given a JSON array of flawed elements
+    String element = resourceAsString("DeepFlawed.json");
+    String json = IntStream.range(0, 3).mapToObj(i -> element).collect(Collectors.joining(",", "[", "]"));
+
+    // When it is decoded with an issue consumer
+    PropertyIssues propertyIssues = PropertyIssues.of();
+    Recorder<DeepFlawed> recorder = Recorder.requesting(Long.MAX_VALUE);
+    Flow.Processor<ByteBuffer, DeepFlawed> decoder = Mapper.newJsonArrayDecoder(propertyIssues::add, DeepFlawed.class);
+    ChunkPublisher.of(json, 64).subscribe(decoder);
+    decoder.subscribe(recorder);
+
+    // Then the issues should be tagged by element index
+    assertEquals(3, recorder.items.size());
+    assertTrue(propertyIssues.containsPropertyName("2.objectToPojo.stringToUUID"));
+
+    // And without issue consumer the flow should end with an error and cancel upstream
+    Recorder<DeepFlawed> failing = Recorder.requesting(Long.MAX_VALUE);
+    Flow.Processor<ByteBuffer, DeepFlawed> failingDecoder = Mapper.newJsonArrayDecoder(DeepFlawed.class);
+    ChunkPublisher failingChunks = ChunkPublisher.of(json, 64);
+    failingChunks.subscribe(failingDecoder);
+    failingDecoder.subscribe(failing);
+    assertInstanceOf(Mapper.MappingException.class, failing.error);
+    assertTrue(failingChunks.cancelled);
+  }
+
+  /**
+   * Scenario: Malformed input and invalid demand should end the flow with an error (rules 2.13, 3.9)
+   */
+  @Test
+  void fail() {
+    // Given malformed input, Then the flow should end with an error
+    for (String json : List.of("{}", "[1, 2", "[1] 2", "[1, }")) {
+      Recorder<Integer> recorder = Recorder.requesting(Long.MAX_VALUE);
+      Flow.Processor<ByteBuffer, Integer> decoder = Mapper.newJsonArrayDecoder(Integer.class);
+      ChunkPublisher.of(json, 1).subscribe(decoder);
+      decoder.subscribe(recorder);
+      assertInstanceOf(Mapper.MappingException.class, recorder.error, json);
+      assertFalse(recorder.completed);
+    }
+
+    // Given a non positive request, Then the flow should end with an error
+    Recorder<Integer> recorder = Recorder.requesting(0);
+    Flow.Processor<ByteBuffer, Integer> decoder = Mapper.newJsonArrayDecoder(Integer.class);
+    ChunkPublisher chunks = ChunkPublisher.of("[1]", 1);
+    chunks.subscribe(decoder);
+    decoder.subscribe(recorder);
+    assertInstanceOf(IllegalArgumentException.class, recorder.error);
+    assertTrue(chunks.cancelled);
+
+    // And a second subscriber should be rejected
+    Recorder<Integer> second = Recorder.requesting(1);
+    decoder.subscribe(second);
+    assertInstanceOf(IllegalStateException.class, second.error);
+  }
+
+  /**
+   * Scenario: Cancelling should stop signals and cancel upstream (rules 3.5, 3.6)
+   */
+  @Test
+  void cancel() {
+    // Given a decoding flow
+    ChunkPublisher chunks = ChunkPublisher.of("[1,2,3]", 1);
+    Recorder<Integer> recorder = Recorder.requesting(1);
+    Flow.Processor<ByteBuffer, Integer> decoder = Mapper.newJsonArrayDecoder(Integer.class);
+    chunks.subscribe(decoder);
+    decoder.subscribe(recorder);
+
+    // When it is cancelled
+    recorder.subscription.cancel();
+    recorder.subscription.request(5);
+
+    // Then upstream should be cancelled and no more signals should arrive
+    assertTrue(chunks.cancelled);
+    assertEquals(List.of(1), recorder.items);
+    assertFalse(recorder.completed);
+    assertNull(recorder.error);
+  }
+
+  /**
+   * Scenario: The parser should be closed however the flow ends, so its pooled buffers are returned
+   */
+  @Test
+  void releaseParser() throws IOException {
+    // Given decoders, When they complete, fail on input, get an upstream error, a non positive request or get cancelled
+    JsonParser completed = decode("[1,2]", Recorder.requesting(Long.MAX_VALUE), null);
+    JsonParser malformed = decode("[1,}", Recorder.requesting(Long.MAX_VALUE), null);
+    JsonParser failedUpstream = decode("[1,", Recorder.requesting(Long.MAX_VALUE), new IllegalStateException("upstream failed"));
+    JsonParser invalidRequest = decode("[1]", Recorder.requesting(0), null);
+    Recorder<Integer> cancelling = Recorder.requesting(1);
+    JsonParser cancelled = decode("[1,2,3]", cancelling, null);
+    assertFalse(cancelled.isClosed());
+    cancelling.subscription.cancel();
+
+    // Then the parser should be closed
+    for (JsonParser parser : List.of(completed, malformed, failedUpstream, invalidRequest, cancelled)) {
+      assertTrue(parser.isClosed());
+    }
+  }
+
+  private static JsonParser decode(String json, Recorder<Integer> recorder, Throwable upstreamError) throws IOException {
+    JsonParser parser = new JsonFactory().createNonBlockingByteBufferParser();
+    JsonArrayDecoder<Integer> decoder = new JsonArrayDecoder<>(parser, (index, element) -> {
+      try (JsonParser elementParser = element.asParser()) {
+        elementParser.nextToken();
+        return elementParser.getIntValue();
+      }
+    });
+    if (isNull(upstreamError)) {
+      ChunkPublisher.of(json, 1).subscribe(decoder);
+    } else {
+      decoder.onSubscribe(new Flow.Subscription() {
+        @Override public void request(long n) {}
+        @Override public void cancel() {}
+      });
+      decoder.onNext(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+      decoder.onError(upstreamError);
+    }
+    decoder.subscribe(recorder);
+    return parser;
+  }
+
+  /**
+   * Scenario: Encoded elements should form a JSON array, also with an asynchronous publisher
+   */
+  @Test
+  void encodeAndDecode() throws InterruptedException {
+    // Given elements published asynchronously
+    Flow.Processor<Person, ByteBuffer> encoder = Mapper.newJsonArrayEncoder();
+    Flow.Processor<ByteBuffer, Person> decoder = Mapper.newJsonArrayDecoder(Person.class);
+    Recorder<Person> recorder = Recorder.requestingBatches(3);
+    encoder.subscribe(decoder);
+    decoder.subscribe(recorder);
+
+    // When they are encoded and decoded again
+    try (SubmissionPublisher<Person> persons = new SubmissionPublisher<>()) {
+      persons.subscribe(encoder);
+      IntStream.range(0, 500).forEach(i -> persons.submit(new Person().setFirstName("Maja " + i)));
+    }
+
+    // Then they should arrive as requested and in order
+    for (int i = 0; i < 100 && !recorder.completed; i++) {
+      synchronized (recorder) {
+        recorder.wait(50);
+      }
+    }
+    assertTrue(recorder.completed);
+    assertEquals(500, recorder.items.size());
+    assertEquals("Maja 499", recorder.items.get(499).getFirstName());
+
+    // And nothing at all should be encoded as an empty array
+    Recorder<ByteBuffer> chunks = Recorder.requesting(Long.MAX_VALUE);
+    Flow.Processor<Person, ByteBuffer> emptyEncoder = Mapper.newJsonArrayEncoder();
+    emptyEncoder.subscribe(chunks);
+    ChunkPublisher.<Person>empty().subscribe(emptyEncoder);
+    assertEquals("[]", StandardCharsets.UTF_8.decode(chunks.items.get(0)).toString());
+    assertTrue(chunks.completed);
+  }
+
+  /**
+   * Publishes chunks synchronously, in request, and keeps track of requests and cancellation.
+   */
+  private static class ChunkPublisher implements Flow.Publisher<ByteBuffer> {
+    private final List<ByteBuffer> chunks;
+    private final AtomicInteger requested = new AtomicInteger();
+    private volatile boolean cancelled;
+
+    private ChunkPublisher(List<ByteBuffer> chunks) {
+      this.chunks = chunks;
+    }
+
+    static ChunkPublisher of(String json, int chunkSize) {
+      byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+      List<ByteBuffer> chunks = new ArrayList<>();
+      for (int i = 0; i < bytes.length; i += chunkSize) {
+        chunks.add(ByteBuffer.wrap(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + chunkSize))));
+      }
+      return new ChunkPublisher(chunks);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Flow.Publisher<T> empty() {
+      return subscriber -> new ChunkPublisher(List.of()).subscribe((Flow.Subscriber<ByteBuffer>) subscriber);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+      AtomicInteger next = new AtomicInteger();
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+          requested.addAndGet((int) n);
+          for (long i = 0; i < n && !cancelled && next.get() < chunks.size(); i++) {
+            subscriber.onNext(chunks.get(next.getAndIncrement()));
+          }
+          if (!cancelled && next.get() == chunks.size()) {
+            next.incrementAndGet();
+            subscriber.onComplete();
+          }
+        }
+
+        @Override
+        public void cancel() {
+          cancelled = true;
+        }
+      });
+    }
+  }
+
+  /**
+   * Records signals, requests once on subscription and optionally again after each batch.
+   */
+  private static class Recorder<T> implements Flow.Subscriber<T> {
+    private final List<T> items = new ArrayList<>();
+    private final long request;
+    private final boolean batches;
+    private Flow.Subscription subscription;
+    private volatile boolean completed;
+    private volatile Throwable error;
+
+    private Recorder(long request, boolean batches) {
+      this.request = request;
+      this.batches = batches;
+    }
+
+    static <T> Recorder<T> requesting(long request) {
+      return new Recorder<>(request, false);
+    }
+
+    static <T> Recorder<T> requestingBatches(long request) {
+      return new Recorder<>(request, true);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(request);
+    }
+
+    @Override
+    public synchronized void onNext(T item) {
+      items.add(item);
+      if (batches && items.size() % request == 0) {
+        subscription.request(request);
+      }
+    }
+
+    @Override
+    public synchronized void onError(Throwable throwable) {
+      error = throwable;
+      notifyAll();
+    }
+
+    @Override
+    public synchronized void onComplete() {
+      completed = true;
+      notifyAll();
+    }
+  }
+}
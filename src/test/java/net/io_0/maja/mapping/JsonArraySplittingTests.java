@@ -0,0 +1,93 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.ConcurrentPropertyIssues;
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.models.DeepFlawed;
+import net.io_0.maja.models.Person;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static net.io_0.maja.TestUtils.resourceAsString;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a large file API consumer
+ *
+ *   I want the elements of a huge top level JSON array bound in parallel
+ *   so that parsing uses all cores
+ *
+ *   and I want them in order, with issues tagged by element index
+ *   so that results are the same as with sequential mapping
+ */
+class JsonArraySplittingTests {
+  /**
+   * Scenario: Elements should be bound in parallel and stay in order, whatever their strings contain
+   */
+  @Test
+  void splitJsonArray() {
+    // Given an array of many elements, with strings containing structural characters, escapes and non ASCII characters
+    String json = IntStream.range(0, 20000)
+      .mapToObj(i -> "{ \"first name\": \"" + i + "\", \"lastName\": \"a,]}[{\\\"\\\\ ä " + i + "\", \"x\": [1, { \"y\": \"]\" }] }")
+      .collect(Collectors.joining(" ,\n", " [ ", " ] "));
+
+    // When it is split and bound in parallel
+    List<Person> persons = StreamSupport.stream(Mapper.splitJsonArray(json.getBytes(StandardCharsets.UTF_8), Person.class), true).toList();
+
+    // Then all elements should be there, in order
+    assertEquals(20000, persons.size());
+    IntStream.range(0, 20000).forEach(i -> {
+      assertEquals(String.valueOf(i), persons.get(i).getFirstName());
+      assertEquals("a,]}[{\"\\ ä " + i, persons.get(i).getLastName());
+    });
+
+    // And empty arrays and primitives should work too
+    assertEquals(0, StreamSupport.stream(Mapper.splitJsonArray("[ ]".getBytes(StandardCharsets.UTF_8), Person.class), false).count());
+    assertEquals(List.of(1, 2), StreamSupport.stream(Mapper.splitJsonArray("[1,2]".getBytes(StandardCharsets.UTF_8), Integer.class), false).toList());
+  }
+
+  /**
+   * Scenario: Issues should be tagged by element index
+   */
+  @Test
+  void splitFlawedJsonArrayFile() throws IOException {
+    // Given a file containing an array of flawed elements
+    String element = resourceAsString("DeepFlawed.json");
+    Path path = Files.createTempFile("flawed", ".json");
+    Files.writeString(path, IntStream.range(0, 100).mapToObj(i -> element).collect(Collectors.joining(",", "[", "]")));
+
+    try {
+      // When it is split and bound in parallel
+      ConcurrentPropertyIssues propertyIssues = ConcurrentPropertyIssues.of();
+      long count = StreamSupport.stream(Mapper.splitJsonArrayFile(path, propertyIssues, DeepFlawed.class), true).count();
+
+      // Then the issues should be tagged by element index
+      PropertyIssues expected = PropertyIssues.of();
+      Mapper.fromJson(element, expected::add, DeepFlawed.class);
+      assertEquals(100, count);
+      assertEquals(100 * expected.size(), propertyIssues.toPropertyIssues().size());
+      assertTrue(propertyIssues.toPropertyIssues().containsPropertyName("99.objectToPojo.stringToUUID"));
+
+      // And without issue consumer binding should fail
+      assertThrows(Mapper.MappingException.class, () -> StreamSupport.stream(Mapper.splitJsonArrayFile(path, DeepFlawed.class), true).toList());
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  /**
+   * Scenario: Passing problematic data should end in an exception
+   */
+  @Test
+  void splitNoJsonArray() {
+    assertThrows(Mapper.MappingException.class, () -> Mapper.splitJsonArray("{}".getBytes(StandardCharsets.UTF_8), Person.class).tryAdvance(p -> {}));
+    assertThrows(Mapper.MappingException.class, () -> StreamSupport.stream(Mapper.splitJsonArray("[{}, \"]".getBytes(StandardCharsets.UTF_8), Person.class), false).toList());
+  }
+}
@@ -0,0 +1,108 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.ConcurrentPropertyIssues;
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.mapping.Mapper.Context;
+import net.io_0.maja.models.Person;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a log and event pipeline API consumer
+ *
+ *   I want to read and write newline delimited JSON (JSON Lines)
+ *   so that I don't have to split lines into Strings myself
+ *
+ *   and I want issues tagged by line number
+ *   so that I can find the offending line
+ */
+class JsonLinesTests {
+  /**
+   * Scenario: Lines should be read lazily, blank lines skipped, issues tagged by line number
+   */
+  @Test
+  void readJsonLines() {
+    // Given JSON Lines with a blank line, Windows line breaks, a malformed line and no trailing line break
+    InputStream lines = toInputStream("{ \"first name\": \"Maja\" }\r\n\n{ \"first name\": \"Mia\", \"lastName\": [] }\n{ \"first\n{ \"lastName\": \"Doe\" }");
+
+    // When they are read
+    PropertyIssues propertyIssues = PropertyIssues.of();
+    List<Person> persons;
+    try (Stream<Person> stream = Mapper.readJsonLines(lines, propertyIssues::add, Person.class)) {
+      persons = stream.toList();
+    }
+
+    // Then readable lines should be mapped in order
+    assertEquals(3, persons.size());
+    assertEquals("Maja", persons.get(0).getFirstName());
+    assertEquals("Mia", persons.get(1).getFirstName());
+    assertEquals("Doe", persons.get(2).getLastName());
+
+    // And the malformed line should be reported by its number
+    assertEquals(Mapper.MALFORMED_DOCUMENT, propertyIssues.getPropertyIssue("4").map(issue -> issue.getCode()).orElse(null));
+
+    // And without issue consumer the stream should fail
+    assertThrows(Mapper.MappingException.class, () -> Mapper.readJsonLines(toInputStream("{}\n{ \"first"), Person.class).toList());
+  }
+
+  /**
+   * Scenario: Lines should be decodable in parallel, in order
+   */
+  @Test
+  void readJsonLinesInParallel() {
+    // Given many lines, longer than a read buffer
+    String padding = "x".repeat(100 * 1024);
+    String json = IntStream.range(0, 2000)
+      .mapToObj(i -> i == 1500 ?
+        "{ \"first name\": \"" + padding + "\" }" :
+        "{ \"first name\": \"" + i + "\", \"lastName\": \"Doe\" }"
+      )
+      .collect(Collectors.joining("\n", "", "\n"));
+
+    // When they are read in parallel
+    ConcurrentPropertyIssues propertyIssues = ConcurrentPropertyIssues.of();
+    List<String> firstNames = Mapper.readJsonLines(toInputStream(json), Context.ofPropertyIssueConsumer(propertyIssues), true, Person.class)
+      .map(Person::getFirstName)
+      .toList();
+
+    // Then they should be in line order
+    assertEquals(2000, firstNames.size());
+    assertEquals("1499", firstNames.get(1499));
+    assertEquals(padding, firstNames.get(1500));
+    assertEquals("1999", firstNames.get(1999));
+    assertTrue(propertyIssues.isEmpty());
+  }
+
+  /**
+   * Scenario: Objects should be written one per line, absent properties left out
+   */
+  @Test
+  void writeJsonLines() {
+    // Given objects
+    Stream<Person> persons = Stream.of(new Person().setFirstName("Maja"), new Person().setLastName(null));
+
+    // When they are written as JSON Lines
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Mapper.writeJsonLines(out, persons);
+
+    // Then each should be on its own line
+    assertEquals("{\"first name\":\"Maja\"}\n{\"lastName\":null}\n", out.toString(StandardCharsets.UTF_8));
+
+    // And they should be readable again
+    assertEquals(2, Mapper.readJsonLines(new ByteArrayInputStream(out.toByteArray()), Person.class).count());
+  }
+
+  private static InputStream toInputStream(String s) {
+    return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,107 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.models.Deep;
+import net.io_0.maja.models.DeepFlawed;
+import net.io_0.maja.models.Nested;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static net.io_0.maja.TestUtils.resourceAsString;
+import static net.io_0.maja.mapping.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a binary format mapper API consumer
+ *
+ *   I want to convert POJOs to CBOR or Smile and back
+ *   so that services can talk to each other with less CPU and bandwidth than JSON
+ *
+ *   and I want the same absent, null and issue handling as with JSON
+ *   so that the same models and validators work
+ */
+class MapBinaryTests {
+  /**
+   * Scenario: Passing problematic data should end in an exception
+   */
+  @Test
+  void mapFromNothing() {
+    assertThrows(Mapper.MappingException.class, () -> Mapper.fromCbor(null, Nested.class));
+    assertThrows(Mapper.MappingException.class, () -> Mapper.fromSmile(null, Nested.class));
+  }
+
+  /**
+   * Scenario: A POJO with nested objects should be mapped to CBOR and Smile and back
+   */
+  @Test
+  void mapDeepToBinaryAndBack() {
+    // Given a deep POJO
+    Deep pojo = Mapper.fromJson(resourceAsString("Deep.json"), Deep.class);
+
+    // When it is mapped to binary and back
+    ByteArrayOutputStream cborStream = new ByteArrayOutputStream();
+    ByteArrayOutputStream smileStream = new ByteArrayOutputStream();
+    Mapper.writeCbor(cborStream, pojo);
+    Mapper.writeSmile(smileStream, pojo);
+    Deep pojoFC = Mapper.fromCbor(Mapper.toCbor(pojo), Deep.class);
+    Deep pojoRC = Mapper.readCbor(new ByteArrayInputStream(cborStream.toByteArray()), Deep.class);
+    Deep pojoFS = Mapper.fromSmile(Mapper.toSmile(pojo), Deep.class);
+    Deep pojoRS = Mapper.readSmile(new ByteArrayInputStream(smileStream.toByteArray()), Deep.class);
+
+    // Then the data should be present in the POJO
+    assertDeepDataPresent(pojoFC);
+    assertDeepDataPresent(pojoRC);
+    assertDeepDataPresent(pojoFS);
+    assertDeepDataPresent(pojoRS);
+  }
+
+  /**
+   * Scenario: It should be possible to differentiate absent and null with binary formats
+   */
+  @Test
+  void mapWithNullAndAbsentPropertiesToBinaryAndBack() {
+    // Given a POJO with nulls and absent properties
+    Nested pojo = Mapper.fromJson(resourceAsString("Partial.json"), Nested.class);
+
+    // When it is mapped to binary and back
+    Nested pojoC = Mapper.fromCbor(Mapper.toCbor(pojo), Nested.class);
+    Nested pojoS = Mapper.fromSmile(Mapper.toSmile(pojo), Nested.class);
+
+    // Then the data should be present in the POJO
+    assertNestedDataPresent(pojoC);
+    assertNestedDataPresent(pojoS);
+
+    // And the markers should be set correctly
+    assertNestedDataMarkedCorrectly(pojoC);
+    assertNestedDataMarkedCorrectly(pojoS);
+  }
+
+  /**
+   * Scenario: All binary to POJO conversion errors and problems should be in one report
+   */
+  @Test
+  void mapFromDeepFlawedBinaryManaged() {
+    // Given deep flawed data in binary formats
+    Map<?, ?> data = Mapper.fromJson(resourceAsString("DeepFlawed.json"), HashMap.class, String.class, Object.class);
+    byte[] cbor = Mapper.toCbor(data);
+    byte[] smile = Mapper.toSmile(data);
+
+    // When it is mapped
+    PropertyIssues propertyIssuesC = PropertyIssues.of();
+    PropertyIssues propertyIssuesS = PropertyIssues.of();
+    DeepFlawed pojoC = Mapper.fromCbor(cbor, propertyIssuesC::add, DeepFlawed.class);
+    DeepFlawed pojoS = Mapper.fromSmile(smile, propertyIssuesS::add, DeepFlawed.class);
+
+    // Then the convertible data should be present in the POJO
+    assertDeepFlawedDataPresent(pojoC);
+    assertDeepFlawedDataPresent(pojoS);
+
+    // And the issues should be collected
+    assertDeepFlawedPropertyIssuesCollected(propertyIssuesC.toString());
+    assertDeepFlawedPropertyIssuesCollected(propertyIssuesS.toString());
+  }
+}
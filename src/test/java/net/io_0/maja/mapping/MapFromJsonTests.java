@@ -8,6 +8,11 @@ import net.io_0.maja.models.*;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import java.io.*;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 import static net.io_0.maja.TestUtils.*;
@@ -95,6 +100,89 @@ class MapFromJsonTests {
     assertDeepDataPresent(pojoF);
   }
 
+  /**
+   * Scenario: Parser buffers should be reused across mappings
+   */
+  @Test
+  void mapFromJsonWithRecycledBuffers() {
+    // Given a flat JSON object mapped once
+    String json = resourceAsString("Flat.json");
+    Mapper.fromJson(json, Flat.class);
+    long hits = Mapper.getBufferPool().getHits();
+
+    // When it is mapped again
+    Flat pojo = Mapper.fromJson(json, Flat.class);
+
+    // Then the data should be present in the POJO
+    assertFlatDataPresent(pojo);
+
+    // And buffers should have been taken from the pool
+    assertTrue(Mapper.getBufferPool().getHits() > hits);
+  }
+
+  /**
+   * Scenario: A JSON object arriving in chunks should be mapped to a POJO
+   */
+  @Test
+  void mapFromJsonChunks() {
+    // Given a deep JSON object and a flawed one in chunks
+    List<ByteBuffer> chunks = chunksOf(resourceAsString("Deep.json"), 7);
+    List<ByteBuffer> flawedChunks = chunksOf(resourceAsString("DeepFlawed.json"), 13);
+
+    // When they are fed
+    Mapper.AsyncReader<Deep> reader = Mapper.newAsyncReader(Deep.class);
+    chunks.forEach(reader::feed);
+    PropertyIssues propertyIssues = PropertyIssues.of();
+    Mapper.AsyncReader<DeepFlawed> flawedReader = Mapper.newAsyncReader(propertyIssues::add, DeepFlawed.class);
+    flawedChunks.forEach(flawedReader::feed);
+
+    // Then the data should be present in the POJO once the end is signaled
+    assertDeepDataPresent(reader.end());
+    assertDeepFlawedDataPresent(flawedReader.end());
+
+    // And the issues should be collected
+    assertDeepFlawedPropertyIssuesCollected(propertyIssues.toString());
+  }
+
+  /**
+   * Scenario: A reader that is closed before the end of input should refuse further chunks
+   */
+  @Test
+  void closeJsonChunkReader() {
+    // Given a reader fed with the start of a JSON object
+    Mapper.AsyncReader<Deep> reader = Mapper.newAsyncReader(Deep.class);
+    List<ByteBuffer> chunks = chunksOf(resourceAsString("Deep.json"), 7);
+    reader.feed(chunks.get(0));
+
+    // When it is closed
+    reader.close();
+    reader.close();
+
+    // Then neither feeding nor ending should be possible anymore
+    assertThrows(Mapper.MappingException.class, () -> reader.feed(chunks.get(1)));
+    assertThrows(Mapper.MappingException.class, reader::end);
+  }
+
+  /**
+   * Scenario: A JSON file should be mapped to a POJO without going through a Reader
+   */
+  @Test
+  void mapFromJsonFile() throws IOException {
+    // Given a deep JSON object in a file
+    Path path = resourceAsPath("Deep.json");
+
+    // When it is mapped
+    Deep pojo = Mapper.readJsonFile(path, Deep.class);
+
+    // Then the data should be present in the POJO
+    assertDeepDataPresent(pojo);
+
+    // And reading it in small windows should result in the same bytes
+    try (InputStream inputStream = new MappedFileInputStream(path, 16)) {
+      assertArrayEquals(Files.readAllBytes(path), inputStream.readAllBytes());
+    }
+  }
+
   /**
    * Scenario: A JSON array of objects with nested objects should be mapped to a List of POJOs
    */
@@ -245,6 +333,76 @@ class MapFromJsonTests {
     assertEquals(4, pojoFC.getYObj());
   }
 
+  /**
+   * Scenario: Only requested properties should be mapped, everything else should stay absent
+   */
+  @Test
+  void mapFromJsonWithProjection() {
+    // Given a deep JSON object with java special names
+    Reader jsonReader = resourceAsReader("DeepNamed.json");
+    String json = resourceAsString("DeepNamed.json");
+
+    // When it is mapped with a projection
+    Context context = Context.ofProjection("x-obj.bool", "x-obj.numberToBigDecimal", "objectArrayToObjectSet.stringToUUID");
+    DeepNamed pojoR = Mapper.readJson(jsonReader, context, DeepNamed.class);
+    DeepNamed pojoF = Mapper.fromJson(json, context, DeepNamed.class);
+
+    // Then only the requested data should be present in the POJO
+    for (DeepNamed pojo : List.of(pojoR, pojoF)) {
+      assertEquals(true, pojo.getObjectToPojo().getBooleanToBoolean());
+      assertEquals(new BigDecimal(1), pojo.getObjectToPojo().getNumberToBigDecimal());
+      assertFalse(pojo.getObjectToPojo().isPropertySet(Nested.STRING_TO_UUID));
+      assertFalse(pojo.getObjectToPojo().isPropertySet(Nested.STRING_ARRAY_TO_STRING_LIST));
+      assertNull(pojo.getStringArrayToEnumList());
+      assertEquals(1, pojo.getObjectArrayToObjectSet().size());
+      Nested nested = pojo.getObjectArrayToObjectSet().iterator().next();
+      assertEquals(UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6"), nested.getStringToUUID());
+      assertFalse(nested.isPropertySet(Nested.NUMBER_TO_BIG_DECIMAL));
+    }
+  }
+
+  /**
+   * Scenario: A projection without paths should map everything
+   */
+  @Test
+  void mapFromJsonWithEmptyProjection() {
+    // Given a deep JSON object with java special names
+    String json = resourceAsString("DeepNamed.json");
+
+    // When it is mapped with an empty projection
+    DeepNamed pojo = Mapper.fromJson(json, Context.ofProjection(), DeepNamed.class);
+
+    // Then all data should be present in the POJO
+    DeepNamed reference = Mapper.fromJson(json, DeepNamed.class);
+    assertEquals(reference.getObjectToPojo(), pojo.getObjectToPojo());
+    assertEquals(reference.getObjectArrayToObjectSet(), pojo.getObjectArrayToObjectSet());
+    assertEquals(reference.getStringArrayToEnumList(), pojo.getStringArrayToEnumList());
+    assertTrue(pojo.getObjectToPojo().isPropertySet(Nested.STRING_TO_UUID));
+  }
+
+  /**
+   * Scenario: Issues should only be reported for requested properties
+   */
+  @Test
+  void mapFromDeepFlawedJsonWithProjection() {
+    // Given a deep JSON object with flawed data
+    String json = resourceAsString("DeepFlawed.json");
+
+    // When it is mapped with a projection
+    PropertyIssues propertyIssues = PropertyIssues.of();
+    DeepFlawed pojo = Mapper.fromJson(json, Context.builder()
+      .propertyIssueConsumer(propertyIssues::add)
+      .projection(Set.of("objectToPojo.stringToUUID", "objectArrayToObjectList.1.booleanToBoolean"))
+      .build(), DeepFlawed.class);
+
+    // Then only issues of requested properties should be collected
+    assertEquals(2, propertyIssues.size());
+    assertTrue(propertyIssues.containsPropertyName("objectToPojo.stringToUUID"));
+    assertTrue(propertyIssues.containsPropertyName("objectArrayToObjectList.1.booleanToBoolean"));
+    assertNull(pojo.getObjectToMap());
+    assertEquals(2, pojo.getObjectArrayToObjectList().size());
+  }
+
   /**
    * Scenario: All JSON to POJO conversion errors and problems should be in one report
    */
@@ -284,6 +442,36 @@ class MapFromJsonTests {
     assertDeepFlawedPropertyIssuesCollected(tF.getMessage());
   }
 
+  /**
+   * Scenario: Exceptions for routinely rejected input should be cheap, yet contain the report
+   */
+  @Test
+  void mapFromDeepFlawedJsonStackless() {
+    // Given stackless mapping exceptions
+    Mapper.MappingException.stackless(true);
+    try {
+      // When conversion errors happen
+      Mapper.MappingException t = assertThrows(Mapper.MappingException.class,
+        () -> Mapper.fromJson(resourceAsString("DeepFlawed.json"), DeepFlawed.class)
+      );
+
+      // Then the exception should come without a stack trace but with the report
+      assertEquals(0, t.getStackTrace().length);
+      assertTrue(t.getPropertyIssues().containsPropertyName("objectToPojo.stringToUUID"));
+      assertDeepFlawedPropertyIssuesCollected(t.getMessage());
+
+      // And it should keep its former shape, an IllegalStateException cause with the report
+      assertInstanceOf(IllegalStateException.class, t.getCause());
+      assertEquals(t.getPropertyIssues().toString(), t.getCause().getMessage());
+      assertTrue(t.getMessage().startsWith("java.lang.IllegalStateException: "));
+    } finally {
+      Mapper.MappingException.stackless(false);
+    }
+
+    // And by default there should be a stack trace
+    assertTrue(assertThrows(Mapper.MappingException.class, () -> Mapper.fromJson("{", DeepFlawed.class)).getStackTrace().length > 0);
+  }
+
   /**
    * Scenario: A JSON object property should be mappable to String
    */
@@ -342,4 +530,33 @@ class MapFromJsonTests {
     assertEqualsIgnoringWhitespaces(resourceAsString("Deep.json"), stringR);
     assertEqualsIgnoringWhitespaces(resourceAsString("DeepNamed.json"), stringF);
   }
+
+  /**
+   * Scenario: Prewarmed model classes should be mapped like any other
+   */
+  @Test
+  void mapFromJsonAfterPrewarm() {
+    // Given prewarmed model classes
+    Mapper.prewarm(Deep.class, DeepNamed.class, Named.class);
+
+    // When JSON is mapped to them
+    Deep deep = Mapper.fromJson(resourceAsString("Deep.json"), Deep.class);
+    DeepNamed deepNamed = Mapper.fromJson(resourceAsString("DeepNamed.json"), DeepNamed.class);
+    Named named = Mapper.fromJson(resourceAsString("Named.json"), Named.class);
+
+    // Then the data should be present in the POJOs
+    assertDeepDataPresent(deep);
+    assertDeepNamedDataPresent(deepNamed);
+    assertEquals(4, named.getASpecialName());
+    assertEquals(7, named.getCaJa());
+  }
+
+  private static List<ByteBuffer> chunksOf(String json, int chunkSize) {
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    List<ByteBuffer> chunks = new ArrayList<>();
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      chunks.add(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+    }
+    return chunks;
+  }
 }
@@ -8,7 +8,11 @@ import net.io_0.maja.models.*;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 import static net.io_0.maja.TestUtils.*;
@@ -95,6 +99,26 @@ class MapFromYamlTests {
     assertDeepDataPresent(pojoF);
   }
 
+  /**
+   * Scenario: A YAML file should be mapped to a POJO without going through a Reader
+   */
+  @Test
+  void mapFromYamlFile() throws IOException {
+    // Given a deep YAML object in a file
+    Path path = resourceAsPath("Deep.yaml");
+
+    // When it is mapped
+    Deep pojo = Mapper.readYamlFile(path, Deep.class);
+
+    // Then the data should be present in the POJO
+    assertDeepDataPresent(pojo);
+
+    // And reading it in small windows should result in the same bytes
+    try (InputStream inputStream = new MappedFileInputStream(path, 16)) {
+      assertArrayEquals(Files.readAllBytes(path), inputStream.readAllBytes());
+    }
+  }
+
   /**
    * Scenario: A YAML array of objects with nested objects should be mapped to a List of POJOs
    */
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 import java.io.*;
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -162,6 +163,101 @@ class MapToJsonTests {
     JSONAssert.assertEquals(referenceC, jsonC, JSONCompareMode.NON_EXTENSIBLE);
   }
 
+  /**
+   * Scenario: It should be possible to map a POJO to JSON with selected properties only
+   */
+  @Test
+  void mapToJsonWithFieldSelection() throws JSONException {
+    // Given a deep POJO and a field selection
+    Deep pojo = Mapper.readJson(resourceAsReader("SimplifiedDeep.json"), Deep.class);
+    CollectionBundle bundle = new CollectionBundle().setOne(null);
+    FieldSelection fieldSelection = FieldSelection.of("obj.bool,objectToMap.numberToBigDecimal,objectArrayToObjectList.stringToUUID,objectArrayToObjectSet,one,two");
+
+    // When it is mapped
+    Writer jsonWriter = new StringWriter();
+    Mapper.writeJson(jsonWriter, pojo, fieldSelection);
+    String json = Mapper.toJson(pojo, fieldSelection);
+    String bundleJson = Mapper.toJson(bundle, fieldSelection);
+
+    // Then only selected properties should be present
+    String reference = "{" +
+      "\"obj\": { \"bool\": true }," +
+      "\"objectToMap\": { \"numberToBigDecimal\": 2 }," +
+      "\"objectArrayToObjectList\": [" +
+        "{ \"stringToUUID\": \"3fa85f64-5717-4562-b3fc-2c963f66afa3\" }," +
+        "{ \"stringToUUID\": \"3fa85f64-5717-4562-b3fc-2c963f66afa4\" }" +
+      "]," +
+      "\"objectArrayToObjectSet\": [{" +
+        "\"stringToUUID\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\"," +
+        "\"numberToBigDecimal\": 43," +
+        "\"stringArrayToStringList\": [\"a\", \"b\", \"b\", \"a\"]," +
+        "\"numberArrayToIntegerSet\": [0, 1, 2, 3]," +
+        "\"bool\": true" +
+      "}]" +
+    "}";
+    JSONAssert.assertEquals(reference, jsonWriter.toString(), JSONCompareMode.NON_EXTENSIBLE);
+    JSONAssert.assertEquals(reference, json, JSONCompareMode.NON_EXTENSIBLE);
+
+    // And PropertyBundles should still only write set properties
+    JSONAssert.assertEquals("{ \"one\": null }", bundleJson, JSONCompareMode.NON_EXTENSIBLE);
+  }
+
+  /**
+   * Scenario: The same object written under different names should get the selection of each name
+   */
+  @Test
+  void mapToJsonWithFieldSelectionOfSharedObject() throws JSONException {
+    // Given a POJO referencing the same object twice
+    Nested nested = new Nested().setNumberToBigDecimal(BigDecimal.ONE).setBooleanToBoolean(true);
+    Deep pojo = Deep.builder().objectToPojo(nested).objectArrayToObjectList(List.of(nested, nested)).build();
+
+    // When it is mapped with different selections for both
+    String json = Mapper.toJson(pojo, FieldSelection.of("obj.bool,objectArrayToObjectList.numberToBigDecimal"));
+
+    // Then each should be written with its own selection
+    JSONAssert.assertEquals(
+      "{ \"obj\": { \"bool\": true }, \"objectArrayToObjectList\": [{ \"numberToBigDecimal\": 1 }, { \"numberToBigDecimal\": 1 }] }",
+      json, JSONCompareMode.NON_EXTENSIBLE
+    );
+  }
+
+  /**
+   * Scenario: Objects without selected properties should be written empty, siblings with their own selection
+   */
+  @Test
+  void mapToJsonWithFieldSelectionSelectingNoProperty() throws JSONException {
+    // Given a POJO with an object and a list of objects
+    Nested nested = new Nested().setNumberToBigDecimal(BigDecimal.ONE).setBooleanToBoolean(true);
+    Deep pojo = Deep.builder()
+      .objectToPojo(nested)
+      .objectArrayToObjectList(List.of(new Nested().setBooleanToBoolean(false), nested))
+      .build();
+
+    // When it is mapped selecting no existing property of the first, but one of the second
+    String json = Mapper.toJson(pojo, FieldSelection.of("obj.unknown,objectArrayToObjectList.bool"));
+
+    // Then the first should be empty and the elements of the second should have the selected property
+    JSONAssert.assertEquals(
+      "{ \"obj\": {}, \"objectArrayToObjectList\": [{ \"bool\": false }, { \"bool\": true }] }",
+      json, JSONCompareMode.NON_EXTENSIBLE
+    );
+  }
+
+  /**
+   * Scenario: An empty field selection should select all properties
+   */
+  @Test
+  void mapToJsonWithEmptyFieldSelection() throws JSONException {
+    // Given a deep POJO
+    Deep pojo = Mapper.readJson(resourceAsReader("SimplifiedDeep.json"), Deep.class);
+
+    // When it is mapped with a blank field selection
+    String json = Mapper.toJson(pojo, FieldSelection.of(""));
+
+    // Then all properties should be present
+    JSONAssert.assertEquals(Mapper.toJson(pojo), json, JSONCompareMode.NON_EXTENSIBLE);
+  }
+
   /**
    * Scenario: It should be possible to serialize empty collections
    */
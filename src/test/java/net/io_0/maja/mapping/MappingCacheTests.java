@@ -0,0 +1,112 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.models.Deep;
+import net.io_0.maja.models.DeepFlawed;
+import net.io_0.maja.models.Nested;
+import org.junit.jupiter.api.Test;
+
+import static net.io_0.maja.TestUtils.resourceAsString;
+import static net.io_0.maja.mapping.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a mapping cache API consumer
+ *
+ *   I want byte-identical documents to be mapped only once
+ *   so that repeated payloads don't cost parsing time
+ *
+ *   and I want the cache to stay within a memory budget
+ *   so that it can't exhaust the heap
+ */
+class MappingCacheTests {
+  /**
+   * Scenario: Passing problematic data should end in an exception
+   */
+  @Test
+  void cacheNothing() {
+    assertThrows(Mapper.MappingException.class, () -> MappingCache.of(1024).fromJson(null, Nested.class));
+  }
+
+  /**
+   * Scenario: Repeated documents should be served from the cache as copies
+   */
+  @Test
+  void cacheHits() {
+    // Given a cache and a deep JSON object
+    MappingCache cache = MappingCache.of(1024 * 1024);
+    String json = resourceAsString("Deep.json");
+
+    // When it is mapped twice
+    Deep first = cache.fromJson(json, Deep.class);
+    Deep second = cache.fromJson(json, Deep.class);
+
+    // Then the data should be present in both POJOs
+    assertDeepDataPresent(first);
+    assertDeepDataPresent(second);
+
+    // And the second should be a hit, but not the same instance
+    assertEquals(1, cache.getMisses());
+    assertEquals(1, cache.getHits());
+    assertNotSame(first, second);
+    assertNotSame(first.getObjectToPojo(), second.getObjectToPojo());
+
+    // And PropertyBundle markers should be copied too
+    Nested partial = cache.fromJson(resourceAsString("Partial.json"), Nested.class);
+    Nested partialAgain = cache.fromJson(resourceAsString("Partial.json"), Nested.class);
+    assertNestedDataMarkedCorrectly(partial);
+    assertNestedDataMarkedCorrectly(partialAgain);
+  }
+
+  /**
+   * Scenario: Issues should be reported on every hit
+   */
+  @Test
+  void cacheIssues() {
+    // Given a cache and a flawed JSON object
+    MappingCache cache = MappingCache.ofSharedInstances(1024 * 1024);
+    String json = resourceAsString("DeepFlawed.json");
+
+    // When it is mapped twice
+    PropertyIssues propertyIssuesA = PropertyIssues.of();
+    PropertyIssues propertyIssuesB = PropertyIssues.of();
+    DeepFlawed first = cache.fromJson(json, propertyIssuesA::add, DeepFlawed.class);
+    DeepFlawed second = cache.fromJson(json, propertyIssuesB::add, DeepFlawed.class);
+
+    // Then the shared instance should be returned
+    assertSame(first, second);
+    assertDeepFlawedDataPresent(second);
+
+    // And the issues should be reported both times
+    assertDeepFlawedPropertyIssuesCollected(propertyIssuesA.toString());
+    assertDeepFlawedPropertyIssuesCollected(propertyIssuesB.toString());
+    assertThrows(Mapper.MappingException.class, () -> cache.fromJson(json, DeepFlawed.class));
+  }
+
+  /**
+   * Scenario: The least recently used results should be evicted when exceeding the budget
+   */
+  @Test
+  void cacheEvictions() {
+    // Given a cache with room for two small documents
+    MappingCache cache = MappingCache.of(60);
+    String a = "{ \"numberToBigDecimal\": 1 }";
+    String b = "{ \"numberToBigDecimal\": 2 }";
+    String c = "{ \"numberToBigDecimal\": 3 }";
+
+    // When three are mapped, with the first one used again
+    cache.fromJson(a, Nested.class);
+    cache.fromJson(b, Nested.class);
+    cache.fromJson(a, Nested.class);
+    cache.fromJson(c, Nested.class);
+
+    // Then the least recently used one should be evicted
+    assertEquals(1, cache.getEvictions());
+    assertTrue(cache.getRetainedSize() <= 60);
+    cache.fromJson(a, Nested.class);
+    assertEquals(2, cache.getHits());
+    cache.fromJson(b, Nested.class);
+    assertEquals(4, cache.getMisses());
+  }
+}
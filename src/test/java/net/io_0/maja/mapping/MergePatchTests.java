@@ -0,0 +1,127 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.models.Nested;
+import net.io_0.maja.models.StringEnum;
+import net.io_0.maja.models.Validatable;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static net.io_0.maja.models.Nested.*;
+import static net.io_0.maja.models.Validatable.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a merge patch API consumer
+ *
+ *   I want to apply RFC 7386 - JSON Merge Patch documents to existing objects
+ *   so that I don't have to copy set properties by hand
+ *
+ *   and I want absent and null to keep their meaning
+ *   so that patched PropertyBundles serialize correctly
+ */
+class MergePatchTests {
+  /**
+   * Scenario: Passing problematic data should end in an exception
+   */
+  @Test
+  void mergePatchWithNothing() {
+    assertThrows(Mapper.MappingException.class, () -> Mapper.mergePatch(new Nested(), null));
+  }
+
+  /**
+   * Scenario: A patch should replace values, remove nulls and leave everything else untouched
+   */
+  @Test
+  void mergePatchFlat() {
+    // Given a PropertyBundle
+    Nested target = new Nested()
+      .setStringToUUID(UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6"))
+      .setNumberToBigDecimal(BigDecimal.ONE)
+      .setBooleanToBoolean(true);
+
+    // When a patch is applied
+    Nested patched = Mapper.mergePatch(target,
+      "{ \"numberToBigDecimal\": 2, \"bool\": null, \"stringArrayToStringList\": [\"a\"], \"unknown\": { \"x\": 1 } }"
+    );
+
+    // Then it should be patched in place
+    assertSame(target, patched);
+    assertEquals(UUID.fromString("3fa85f64-5717-4562-b3fc-2c963f66afa6"), patched.getStringToUUID());
+    assertEquals(BigDecimal.valueOf(2), patched.getNumberToBigDecimal());
+    assertEquals(List.of("a"), patched.getStringArrayToStringList());
+    assertNull(patched.getBooleanToBoolean());
+
+    // And the markers should be set correctly
+    assertTrue(patched.isPropertySet(STRING_TO_UUID));
+    assertTrue(patched.isPropertySet(NUMBER_TO_BIG_DECIMAL));
+    assertTrue(patched.isPropertySet(STRING_ARRAY_TO_STRING_LIST));
+    assertFalse(patched.isPropertySet(BOOLEAN_TO_BOOLEAN));
+    assertFalse(patched.isPropertySet(NUMBER_ARRAY_TO_INTEGER_SET));
+  }
+
+  /**
+   * Scenario: A patch should be merged into nested objects and Maps instead of replacing them
+   */
+  @Test
+  void mergePatchDeep() {
+    // Given a PropertyBundle with nested objects
+    Nested pojo = new Nested().setNumberToBigDecimal(BigDecimal.ONE).setBooleanToBoolean(false);
+    Map<String, StringEnum> enumMap = new HashMap<>(Map.of("a", StringEnum.STR1, "b", StringEnum.STR2));
+    Validatable target = new Validatable()
+      .setPojo(pojo)
+      .setEnumMap(enumMap)
+      .setNumberList(List.of(1, 2, 3));
+
+    // When a patch is applied
+    Validatable patched = Mapper.mergePatch(target,
+      "{ \"pojo\": { \"bool\": true }, \"enumMap\": { \"a\": null, \"c\": \"STR3\" }, \"numberList\": [4], " +
+      "\"pojoMap\": { \"x\": { \"numberToBigDecimal\": 3, \"bool\": null } } }"
+    );
+
+    // Then nested objects should be patched in place
+    assertSame(pojo, patched.getPojo());
+    assertEquals(BigDecimal.ONE, pojo.getNumberToBigDecimal());
+    assertTrue(pojo.getBooleanToBoolean());
+    assertSame(enumMap, patched.getEnumMap());
+    assertEquals(Map.of("b", StringEnum.STR2, "c", StringEnum.STR3), enumMap);
+
+    // And arrays should be replaced
+    assertEquals(List.of(4), patched.getNumberList());
+
+    // And missing objects should be created from the patch without its nulls
+    Nested created = patched.getPojoMap().get("x");
+    assertEquals(BigDecimal.valueOf(3), created.getNumberToBigDecimal());
+    assertFalse(created.isPropertySet(BOOLEAN_TO_BOOLEAN));
+
+    // And the markers should be set correctly
+    assertTrue(patched.isPropertySet(POJO));
+    assertTrue(patched.isPropertySet(ENUM_MAP));
+    assertTrue(patched.isPropertySet(NUMBER_LIST));
+    assertTrue(patched.isPropertySet(POJO_MAP));
+    assertFalse(patched.isPropertySet(POJOS));
+  }
+
+  /**
+   * Scenario: Patch problems should be reported as property issues
+   */
+  @Test
+  void mergePatchFlawed() {
+    // Given a PropertyBundle
+    Nested target = new Nested().setNumberToBigDecimal(BigDecimal.ONE);
+
+    // When a flawed patch is applied
+    PropertyIssues propertyIssues = PropertyIssues.of();
+    Mapper.mergePatch(target, "{ \"stringToUUID\": \"no uuid\", \"numberToBigDecimal\": 5 }", propertyIssues::add);
+
+    // Then the issues should be collected and the rest applied
+    assertTrue(propertyIssues.containsPropertyName(STRING_TO_UUID));
+    assertEquals(BigDecimal.valueOf(5), target.getNumberToBigDecimal());
+    assertThrows(Mapper.MappingException.class, () -> Mapper.mergePatch(new Nested(), "{ \"stringToUUID\": \"no uuid\" }"));
+  }
+}
@@ -0,0 +1,77 @@
+package net.io_0.maja.mapping;
+
+import net.io_0.maja.PropertyIssue;
+import net.io_0.maja.PropertyIssues;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As an API provider
+ *
+ *   I want to answer invalid requests with RFC 7807 - Problem Details
+ *   so that clients get every issue in a well known structure
+ *
+ *   and I want the issues written straight to the response
+ *   so that rejecting input stays cheap
+ */
+class ProblemDetailsTests {
+  /**
+   * Scenario: Issues should be listed in order
+   */
+  @Test
+  void writeListed() {
+    // Given property issues
+    PropertyIssues propertyIssues = PropertyIssues.of(
+      PropertyIssue.of("pojos.3.name", "Required Violation", "Is required but missing"),
+      PropertyIssue.of("id", "Bad \"UUID\"", null)
+    );
+
+    // When they are written
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Mapper.writeIssues(out, propertyIssues);
+
+    // Then they should be problem details
+    assertEquals(
+      "{\"type\":\"about:blank\",\"title\":\"Invalid properties\",\"status\":422,\"issues\":[" +
+        "{\"property\":\"pojos.3.name\",\"code\":\"Required Violation\",\"message\":\"Is required but missing\"}," +
+        "{\"property\":\"id\",\"code\":\"Bad \\\"UUID\\\"\",\"message\":null}" +
+      "]}",
+      out.toString(StandardCharsets.UTF_8)
+    );
+  }
+
+  /**
+   * Scenario: Issues should be groupable by property
+   */
+  @Test
+  void writeGroupedByPath() {
+    // Given property issues, some for the same property
+    PropertyIssues propertyIssues = PropertyIssues.of(
+      PropertyIssue.of("name", "a", "1"),
+      PropertyIssue.of("id", "b", "2"),
+      PropertyIssue.of("name", "c", "3")
+    );
+
+    // When they are written grouped by path
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Mapper.writeIssues(out, propertyIssues, true);
+
+    // Then they should be grouped in order of first appearance
+    assertEquals(
+      "{\"type\":\"about:blank\",\"title\":\"Invalid properties\",\"status\":422,\"issues\":{" +
+        "\"name\":[{\"code\":\"a\",\"message\":\"1\"},{\"code\":\"c\",\"message\":\"3\"}]," +
+        "\"id\":[{\"code\":\"b\",\"message\":\"2\"}]" +
+      "}}",
+      out.toString(StandardCharsets.UTF_8)
+    );
+
+    // And no issues should be written as empty group
+    out.reset();
+    Mapper.writeIssues(out, PropertyIssues.of(), true);
+    assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\"issues\":{}}"));
+  }
+}
@@ -0,0 +1,77 @@
+package net.io_0.maja.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.mapping.Mapper;
+import net.io_0.maja.models.Person;
+import net.io_0.maja.validators.PersonValidator;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a Java Flight Recorder user
+ *
+ *   I want mappings, serializations and validations recorded as events with their target class
+ *   so that profiles attribute time to model types
+ */
+class JfrEventTests {
+  /**
+   * Scenario: Enabled events should be recorded with target class, format, size and issue count
+   */
+  @Test
+  void recordEvents() throws IOException {
+    // Given a recording with all Maja events enabled
+    Path dump = Files.createTempFile("maja", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(MappingEvent.class);
+      recording.enable(SerializationEvent.class);
+      recording.enable(ValidationEvent.class);
+      recording.enable(PropertyIssueEvent.class);
+      recording.start();
+
+      // When data is mapped, validated and serialized
+      String json = "{ \"first name\": \"M\" }";
+      Person person = Mapper.fromJson(json, PropertyIssues.of()::add, Person.class);
+      PersonValidator.instance.validate(person);
+      Mapper.toJson(person);
+
+      recording.stop();
+      recording.dump(dump);
+      List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+      // Then each should be recorded
+      RecordedEvent mapping = single(events, "net.io_0.maja.Mapping");
+      assertEquals(Person.class.getName(), mapping.getClass("targetClass").getName());
+      assertEquals("JSON", mapping.getString("format"));
+      assertEquals(json.length(), mapping.getLong("size"));
+      assertEquals(0, mapping.getInt("issueCount"));
+
+      RecordedEvent validation = single(events, "net.io_0.maja.Validation");
+      assertEquals(Person.class.getName(), validation.getClass("targetClass").getName());
+      assertEquals(1, validation.getInt("issueCount"));
+
+      RecordedEvent propertyIssue = single(events, "net.io_0.maja.PropertyIssue");
+      assertEquals("firstName", propertyIssue.getString("propertyName"));
+      assertEquals("Min Length Violation, 2", propertyIssue.getString("code"));
+
+      RecordedEvent serialization = single(events, "net.io_0.maja.Serialization");
+      assertEquals(Person.class.getName(), serialization.getClass("targetClass").getName());
+    } finally {
+      Files.delete(dump);
+    }
+  }
+
+  private static RecordedEvent single(List<RecordedEvent> events, String name) {
+    List<RecordedEvent> named = events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    assertEquals(1, named.size(), name);
+    return named.get(0);
+  }
+}
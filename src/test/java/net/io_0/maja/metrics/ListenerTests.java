@@ -0,0 +1,168 @@
+package net.io_0.maja.metrics;
+
+import net.io_0.maja.PropertyIssue;
+import net.io_0.maja.PropertyIssues;
+import net.io_0.maja.mapping.Mapper;
+import net.io_0.maja.models.DeepFlawed;
+import net.io_0.maja.models.DeepNamed;
+import net.io_0.maja.models.Nested;
+import net.io_0.maja.models.Person;
+import net.io_0.maja.validation.Validator;
+import net.io_0.maja.validators.PersonValidator;
+import org.junit.jupiter.api.Test;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static net.io_0.maja.TestUtils.resourceAsString;
+import static net.io_0.maja.validation.PropertyConstraint.on;
+import static net.io_0.maja.validation.PropertyValidators.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a mapping and validation API consumer
+ *
+ *   I want to observe how long mappings, serializations and validations take, how much they process and which issues occur
+ *   so that I can record metrics and traces without wrapping every call
+ */
+class ListenerTests {
+  /**
+   * Scenario: A registered listener should be told about start and end of each operation
+   */
+  @Test
+  void observeOperations() {
+    // Given a registered listener
+    List<String> starts = new ArrayList<>();
+    List<Observation> ends = new ArrayList<>();
+    Listeners.register(new Listener() {
+      @Override
+      public void onStart(Operation operation, Class<?> type, String format) {
+        starts.add(operation + " " + type.getSimpleName() + " " + format);
+      }
+
+      @Override
+      public void onEnd(Observation observation) {
+        ends.add(observation);
+      }
+    });
+
+    // When data is mapped, validated and serialized
+    String json = "{ \"first name\": \"M\", \"lastName\": \"Doe\" }";
+    String serialized;
+    try {
+      Person person = Mapper.fromJson(json, Person.class);
+      PersonValidator.instance.validate(person);
+      serialized = Mapper.toJson(person);
+    } finally {
+      Listeners.clear();
+    }
+
+    // Then each operation should be observed
+    assertEquals(List.of("MAPPING Person JSON", "VALIDATION Person null", "SERIALIZATION Person JSON"), starts);
+    assertEquals(3, ends.size());
+    assertEquals(json.length(), ends.get(0).getSize());
+    assertEquals(Map.of(), ends.get(0).getIssueCounts());
+    assertEquals(Map.of("Min Length Violation, 2", 1), ends.get(1).getIssueCounts());
+    assertEquals(serialized.length(), ends.get(2).getSize());
+    ends.forEach(observation -> assertTrue(observation.getDurationNanos() >= 0));
+  }
+
+  /**
+   * Scenario: Nested validations should be observed as part of the outermost one
+   */
+  @Test
+  void observeOutermostValidation() {
+    // Given a registered listener
+    List<Observation> ends = new ArrayList<>();
+    Listeners.register(new Listener() {
+      @Override
+      public void onEnd(Observation observation) {
+        ends.add(observation);
+      }
+    });
+
+    // When a POJO is validated with a nested validator, and issues are validated as they are
+    Validator<Nested> nestedValidator = Validator.of(on("bool", required, notNull));
+    Validator<DeepNamed> validator = Validator.of(on("x-obj", notNull, valid(nestedValidator)));
+    PropertyIssues propertyIssues = PropertyIssues.of(PropertyIssue.of("x-obj", "code", "issue"));
+    try {
+      validator.validate(DeepNamed.builder().objectToPojo(new Nested()).build());
+      Validator.<DeepNamed>of(propertyIssues).validate(DeepNamed.builder().build());
+    } finally {
+      Listeners.clear();
+    }
+
+    // Then each validation should be observed once, with each issue counted once
+    assertEquals(2, ends.size());
+    assertEquals(DeepNamed.class, ends.get(0).getType());
+    assertEquals(Map.of("Required Violation", 1), ends.get(0).getIssueCounts());
+    assertEquals(Map.of("code", 1), ends.get(1).getIssueCounts());
+  }
+
+  /**
+   * Scenario: A mapping fed in chunks should be observed with the size of the fed input
+   */
+  @Test
+  void observeChunkedMapping() {
+    // Given a registered listener
+    List<Observation> ends = new ArrayList<>();
+    Listeners.register(new Listener() {
+      @Override
+      public void onEnd(Observation observation) {
+        ends.add(observation);
+      }
+    });
+
+    // When a JSON object is fed in chunks
+    byte[] json = "{ \"first name\": \"M\", \"lastName\": \"Doe\" }".getBytes(StandardCharsets.UTF_8);
+    try {
+      Mapper.AsyncReader<Person> reader = Mapper.newAsyncReader(Person.class);
+      reader.feed(ByteBuffer.wrap(json, 0, 10));
+      reader.feed(ByteBuffer.wrap(json, 10, json.length - 10));
+      reader.end();
+    } finally {
+      Listeners.clear();
+    }
+
+    // Then the size should be that of all chunks
+    assertEquals(1, ends.size());
+    assertEquals(json.length, ends.get(0).getSize());
+  }
+
+  /**
+   * Scenario: The histogram listener should aggregate observations per operation and type
+   */
+  @Test
+  void recordHistograms() {
+    // Given a registered histogram listener
+    HistogramListener histograms = new HistogramListener();
+    Listeners.register(histograms);
+
+    // When flawed data is mapped repeatedly
+    String json = resourceAsString("DeepFlawed.json");
+    PropertyIssues propertyIssues = PropertyIssues.of();
+    try {
+      for (int i = 0; i < 10; i++) {
+        Mapper.fromJson(json, propertyIssues::add, DeepFlawed.class);
+      }
+    } finally {
+      Listeners.clear();
+    }
+
+    // Then the histogram should contain all of them
+    HistogramListener.Histogram histogram = histograms.getHistogram(Operation.MAPPING, DeepFlawed.class).orElseThrow();
+    assertEquals(10, histogram.getCount());
+    assertEquals(10L * json.length(), histogram.getTotalSize());
+    assertEquals(
+      propertyIssues.stream().collect(Collectors.groupingBy(propertyIssue -> propertyIssue.getIssue().getCode(), Collectors.counting())),
+      histogram.getIssueCounts()
+    );
+    assertTrue(histogram.getPercentileNanos(0.5) <= histogram.getPercentileNanos(1));
+    assertTrue(histogram.getPercentileNanos(1) >= histogram.getTotalNanos() / 10);
+    assertTrue(histograms.getHistogram(Operation.VALIDATION, DeepFlawed.class).isEmpty());
+  }
+}
@@ -0,0 +1,96 @@
+package net.io_0.maja.validation;
+
+import org.apache.commons.validator.routines.DomainValidator;
+import org.apache.commons.validator.routines.EmailValidator;
+import org.apache.commons.validator.routines.InetAddressValidator;
+import org.apache.commons.validator.routines.UrlValidator;
+import org.junit.jupiter.api.Test;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrative:
+ *   As a validation API consumer
+ *
+ *   I want the email, hostname, ip and url formats checked without regular expressions
+ *   so that format validation is cheap
+ *
+ *   and I want exactly the same answers as commons-validator gives
+ *   so that switching the implementation changes nothing but speed
+ */
+class FormatsTests {
+  private static final String[] SEEDS = {
+    "", "maja@io-0.net", "first.last@sub.example.com", "\"quoted user\"@example.org", "\"a\\\"b\".c@example.de",
+    "us\\@er@example.info", "o'hara@example.co", "user@[192.168.0.1]", "user@[::1]", "user@[2001:db8::1%eth0]",
+    "user@localhost", "user@example.com.", "io-0.net", "a.b-c.example.museum", "xn--p1ai.xn--p1ai", "example.app.",
+    "0.0.0.0", "255.255.255.255", "192.168.001.1", "1.2.3", "::", "::1", "1::", "2001:db8::ff00:42:8329",
+    "2001:0db8:0000:0000:0000:ff00:0042:8329", "::ffff:192.0.2.128", "fe80::1%eth0/64", "1:2:3:4:5:6:7::",
+    "-0:+1:2:3:4:5:6:7", "http://io-0.net", "https://www.example.com:8443/path/to;param?query=1&b=2#frag",
+    "ftp://192.168.0.1/file.txt", "http://example.com/a//b", "http://example.com/../up", "http://user:pw@example.com/",
+    "http://[::1]:8080/", "HTTP://EXAMPLE.COM/", "http://example.com:65536/", "http://example.com/%20encoded",
+    "file:///etc/hosts", "mailto:maja@io-0.net", "http://exämple.com/", "münchen.de", "user@münchen.de.",
+    "http://u:p@xn--mnchen-3ya.de:80/a/./b/../c", "https://[::FFFF:1.2.3.4]:99999/%41?q=%20#f", "ftp://u@1.2.3.4/a/../..",
+    "http://bücher.example/ä?ö#ü"
+  };
+  private static final String MUTATIONS = "aZ09-.@:/%[]\"\\()'+_~?#&=,; \t\nä !*";
+
+  /**
+   * Scenario: Email formats should be judged like commons-validator does
+   */
+  @Test
+  void emailConformance() {
+    assertConformance(Formats::isEmail, EmailValidator.getInstance()::isValid);
+  }
+
+  /**
+   * Scenario: Hostname formats should be judged like commons-validator does
+   */
+  @Test
+  void hostnameConformance() {
+    assertConformance(Formats::isHostname, DomainValidator.getInstance()::isValid);
+  }
+
+  /**
+   * Scenario: IP formats should be judged like commons-validator does
+   */
+  @Test
+  void inetAddressConformance() {
+    assertConformance(Formats::isInet4Address, InetAddressValidator.getInstance()::isValidInet4Address);
+    assertConformance(Formats::isInet6Address, InetAddressValidator.getInstance()::isValidInet6Address);
+  }
+
+  /**
+   * Scenario: Url formats should be judged like commons-validator does
+   */
+  @Test
+  void urlConformance() {
+    assertConformance(Formats::isUrl, UrlValidator.getInstance()::isValid);
+  }
+
+  private static void assertConformance(Predicate<String> actual, Predicate<String> expected) {
+    // Given a corpus of seeds and every single character deletion, replacement and insertion of them
+    Set<String> corpus = new LinkedHashSet<>();
+    for (String seed : SEEDS) {
+      corpus.add(seed);
+      for (int i = 0; i <= seed.length(); i++) {
+        if (i < seed.length()) {
+          corpus.add(seed.substring(0, i) + seed.substring(i + 1));
+        }
+        for (char c : MUTATIONS.toCharArray()) {
+          corpus.add(seed.substring(0, i) + c + seed.substring(i));
+          if (i < seed.length()) {
+            corpus.add(seed.substring(0, i) + c + seed.substring(i + 1));
+          }
+        }
+      }
+    }
+
+    // When each is checked, Then the result should match commons-validator
+    for (String value : corpus) {
+      assertEquals(expected.test(value), actual.test(value), "Different result for '" + value + "'");
+    }
+  }
+}
@@ -1,8 +1,12 @@
 package net.io_0.maja.validation;
 
+import net.io_0.maja.PojoProperty;
 import net.io_0.maja.Property;
+import net.io_0.maja.PropertyIssue;
+import net.io_0.maja.PropertyIssues;
 import net.io_0.maja.models.IntegerBundle;
 import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.io_0.maja.validation.PropertyValidator.andAll;
 import static net.io_0.maja.validation.PropertyValidators.*;
@@ -17,4 +21,84 @@ class PropertyValidatorTest {
     assertTrue(andAll(minimum(1), maximum(10)).validate(property).isValid());
     assertTrue(minimum(1).and(maximum(10)).validate(property).isValid());
   }
-}
\ No newline at end of file
+
+  // memoized validators should skip repeated values, but still report issues under the current name
+  @Test
+  void memoizedTest() {
+    AtomicInteger checks = new AtomicInteger();
+    PropertyValidator<String> validator = memoized(counted(minLength(2), checks), 16);
+
+    assertTrue(validator.validate(new PojoProperty<>("a", "ok")).isValid());
+    assertTrue(validator.validate(new PojoProperty<>("b", "ok")).isValid());
+    assertEquals("c -> Min Length Violation, 2 (Must be at least 2 characters long)",
+      validator.validate(new PojoProperty<>("c", "x")).getPropertyIssues().toString());
+    assertEquals("d -> Min Length Violation, 2 (Must be at least 2 characters long)",
+      validator.validate(new PojoProperty<>("d", "x")).getPropertyIssues().toString());
+    assertEquals(2, checks.get());
+
+    assertThrows(IllegalArgumentException.class, () -> memoized(validator, 1));
+  }
+
+  // issues under other names than the property's own can't be moved to another name, so they aren't remembered
+  @Test
+  void memoizedForeignIssueTest() {
+    AtomicInteger checks = new AtomicInteger();
+    PropertyValidator<String> validator = memoized(counted(
+      property -> Validation.invalid(PropertyIssues.of(PropertyIssue.of("other", "Foreign", "issue"))), checks
+    ), 16);
+
+    validator.validate(new PojoProperty<>("a", "x"));
+    assertEquals("other -> Foreign (issue)", validator.validate(new PojoProperty<>("b", "x")).getPropertyIssues().toString());
+    assertEquals(2, checks.get());
+  }
+
+  // a full stripe should forget its least recently used value
+  @Test
+  void memoizedEvictionTest() {
+    AtomicInteger checks = new AtomicInteger();
+    PropertyValidator<String> validator = memoized(counted(minLength(2), checks), MemoizedPropertyValidator.STRIPES);
+    assertEquals("a".hashCode() % MemoizedPropertyValidator.STRIPES, "q".hashCode() % MemoizedPropertyValidator.STRIPES);
+
+    validator.validate(new PojoProperty<>("name", "a"));
+    validator.validate(new PojoProperty<>("name", "a"));
+    assertEquals(1, checks.get());
+
+    validator.validate(new PojoProperty<>("name", "q"));
+    validator.validate(new PojoProperty<>("name", "a"));
+    assertEquals(3, checks.get());
+  }
+
+  // the global switch should turn memoization of the built in formats on and off
+  @Test
+  void memoizeFormatsTest() {
+    AtomicInteger checks = new AtomicInteger();
+    PropertyValidator<String> validator = new MemoizedPropertyValidator<>(
+      counted(emailFormat, checks), 16, () -> MemoizedPropertyValidator.formatsMemoized
+    );
+    Property<String> email = new PojoProperty<>("email", "maja@io-0.net");
+
+    try {
+      validator.validate(email);
+      validator.validate(email);
+      assertEquals(2, checks.get());
+
+      memoizeFormats(true);
+      validator.validate(email);
+      assertTrue(validator.validate(email).isValid());
+      assertTrue(emailFormat.validate(email).isValid());
+      assertEquals(3, checks.get());
+    } finally {
+      memoizeFormats(false);
+    }
+
+    validator.validate(email);
+    assertEquals(4, checks.get());
+  }
+
+  private static <T> PropertyValidator<T> counted(PropertyValidator<T> validator, AtomicInteger checks) {
+    return property -> {
+      checks.incrementAndGet();
+      return validator.validate(property);
+    };
+  }
+}
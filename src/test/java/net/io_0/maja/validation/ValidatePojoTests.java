@@ -174,6 +174,26 @@ class ValidatePojoTests {
     assertTrue(valid.isValid());
   }
 
+  /**
+   * Scenario: Validation exceptions for routinely rejected input should be cheap, yet contain the report
+   */
+  @Test
+  void stacklessValidationException() {
+    // Given stackless validation exceptions
+    Validator<Nested> validator = of(on(BOOLEAN_TO_BOOLEAN, required));
+    ValidationException.stackless(true);
+    try {
+      // When validation fails
+      ValidationException ex = assertThrows(ValidationException.class, () -> validator.ensureValidity(new Nested()));
+
+      // Then the exception should come without a stack trace but with the report
+      assertEquals(0, ex.getStackTrace().length);
+      assertTrue(ex.getMessage().startsWith("Validation failed. Issues: " + BOOLEAN_TO_BOOLEAN + " -> Issue(code=Required Violation"));
+    } finally {
+      ValidationException.stackless(false);
+    }
+  }
+
   /**
    * Scenario: It should be convenient to work with validators and their components
    */